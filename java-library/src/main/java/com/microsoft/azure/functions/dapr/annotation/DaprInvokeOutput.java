@@ -38,4 +38,29 @@ public @interface DaprInvokeOutput {
      * HTTP verb for invoking the app.
      */
     String httpVerb() default "POST";
+
+    /**
+     * Timeout in milliseconds for a single invocation attempt. Zero means no per-attempt timeout.
+     */
+    int timeoutMs() default 0;
+
+    /**
+     * Maximum number of attempts, including the first one. Only transient failures are retried.
+     */
+    int maxAttempts() default 1;
+
+    /**
+     * Base delay in milliseconds of the exponential backoff (with jitter) between retries.
+     */
+    int retryBackoffMs() default 200;
+
+    /**
+     * Whether to send a hedged request for idempotent HTTP verbs when the first one is slow.
+     */
+    boolean enableHedging() default false;
+
+    /**
+     * Latency percentile used as the delay before sending a hedged request.
+     */
+    int hedgingPercentile() default 95;
 }
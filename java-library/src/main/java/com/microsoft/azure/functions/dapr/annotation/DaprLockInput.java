@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.annotation;
+
+import com.microsoft.azure.functions.annotation.CustomBinding;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.ElementType;
+
+/**
+ *  Attribute to specify parameters for the Dapr distributed lock input binding.
+ *  The lock is acquired before the function runs and released when the invocation completes.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+@CustomBinding(direction = "in", name = "daprLockInputMessage", type = "daprLock")
+public @interface DaprLockInput {
+    /**
+     * Dapr runtime endpoint.
+     */
+    String daprAddress() default "";
+
+    /**
+     * Name of the lock store.
+     */
+    String lockStore() default "";
+
+    /**
+     * ID of the resource to lock. Binding expressions such as {id} are supported.
+     */
+    String resourceId() default "";
+
+    /**
+     * Number of seconds after which the lock expires if it has not been released.
+     */
+    int expiryInSeconds() default 60;
+
+    /**
+     * What happens when the lock is held by another owner: "FailFast" fails the invocation,
+     * "WaitWithBackoff" retries with exponential backoff until acquireTimeoutMs elapses.
+     */
+    String acquirePolicy() default "FailFast";
+
+    /**
+     * Maximum time in milliseconds to wait for the lock in "WaitWithBackoff" mode.
+     */
+    int acquireTimeoutMs() default 30000;
+}
@@ -33,4 +33,25 @@ public @interface DaprPublishOutput {
      * Name of the topic to publish to.
      */
     String topic() default "";
+
+    /**
+     * How events are delivered to the Dapr sidecar: "Sync" publishes before the invocation completes,
+     * "AsyncBatched" buffers events host-wide and publishes them in the background in bulk.
+     */
+    String deliveryMode() default "Sync";
+
+    /**
+     * Maximum number of events in a single bulk publish request in "AsyncBatched" mode.
+     */
+    int maxBatchSize() default 100;
+
+    /**
+     * Maximum time in milliseconds an event is buffered in "AsyncBatched" mode.
+     */
+    int batchLingerMs() default 50;
+
+    /**
+     * What happens when the publish buffer is full in "AsyncBatched" mode: "Block" or "Fail".
+     */
+    String overflowPolicy() default "Block";
 }
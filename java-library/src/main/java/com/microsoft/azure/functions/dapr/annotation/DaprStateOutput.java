@@ -34,4 +34,25 @@ public @interface DaprStateOutput {
      * Key name to get or set state.
      */
     String key() default "";
+
+    /**
+     * How values are saved: "WriteThrough" saves them before the invocation completes,
+     * "WriteBehind" buffers them host-wide and saves only the latest value of each key in the background.
+     */
+    String writeMode() default "WriteThrough";
+
+    /**
+     * Maximum time in milliseconds a value is buffered in "WriteBehind" mode.
+     */
+    int flushIntervalMs() default 1000;
+
+    /**
+     * Number of buffered keys that triggers an immediate save in "WriteBehind" mode.
+     */
+    int maxBatchSize() default 100;
+
+    /**
+     * What happens when the write-behind buffer is full in "WriteBehind" mode: "Block" or "Fail".
+     */
+    String overflowPolicy() default "Block";
 }
@@ -36,4 +36,28 @@ public @interface DaprTopicTrigger {
      * Route for the trigger. If unspecified, the topic name will be used.                              
      */
     String route() default "";
+
+    /**
+     * CEL expression that events must match to trigger the function, e.g. event.type == "order.created".
+     * If unspecified, the function receives the events that match no other function's expression.
+     */
+    String match() default "";
+
+    /**
+     * Order in which the match expressions of the functions subscribed to the same topic are evaluated.
+     * Lower values are evaluated first.
+     */
+    int priority() default 0;
+
+    /**
+     * Whether to unwrap binary events, e.g. Avro or Protobuf, when binding to a byte[]. When set, a Cloud Event
+     * carrying its payload in data_base64 is replaced by the decoded payload. Otherwise the raw body is bound.
+     */
+    boolean decodeBinaryData() default false;
+
+    /**
+     * Defines how the Functions runtime should treat the parameter value. Use "binary" to receive the
+     * payload of binary events, e.g. Avro or Protobuf, as a byte[].
+     */
+    String dataType() default "";
 }
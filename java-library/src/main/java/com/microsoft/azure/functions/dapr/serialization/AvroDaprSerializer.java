@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.reflect.ReflectDatumReader;
+import org.apache.avro.reflect.ReflectDatumWriter;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+
+/**
+ * Avro binary serializer. Supports classes generated from Avro schemas, and any other class with a
+ * schema file named after it in the {@link SchemaDirectory}, e.g. schemas/com.contoso.Order.avsc.
+ * Requires org.apache.avro:avro on the classpath.
+ */
+public class AvroDaprSerializer implements DaprSerializer {
+    public static final String CONTENT_TYPE = "application/avro";
+    public static final String SCHEMA_EXTENSION = ".avsc";
+
+    private final SchemaDirectory schemas;
+    private final ConcurrentHashMap<Class<?>, Codec> codecs = new ConcurrentHashMap<>();
+
+    public AvroDaprSerializer() {
+        this(SchemaDirectory.fromEnvironment());
+    }
+
+    public AvroDaprSerializer(SchemaDirectory schemas) {
+        this.schemas = schemas;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return SpecificRecord.class.isAssignableFrom(type) || this.schemas.find(type, SCHEMA_EXTENSION).isPresent();
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        Codec codec = this.codec(value.getClass());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+            codec.writer.write(value, encoder);
+            encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new DaprSerializationException("Failed to serialize " + value.getClass().getName() + " to Avro.", e);
+        }
+
+        return out.toByteArray();
+    }
+
+    @Override
+    public <T> T deserialize(byte[] data, Class<T> type) {
+        Codec codec = this.codec(type);
+        try {
+            return type.cast(codec.reader.read(null, DecoderFactory.get().binaryDecoder(data, null)));
+        } catch (IOException | RuntimeException e) {
+            throw new DaprSerializationException("Failed to deserialize Avro data to " + type.getName() + ".", e);
+        }
+    }
+
+    @Override
+    public String dataSchema(Class<?> type) {
+        return this.schemas.schemaUri(type, SCHEMA_EXTENSION);
+    }
+
+    private Codec codec(Class<?> type) {
+        return this.codecs.computeIfAbsent(type, this::createCodec);
+    }
+
+    private Codec createCodec(Class<?> type) {
+        Optional<Path> file = this.schemas.find(type, SCHEMA_EXTENSION);
+        Schema schema;
+        if (file.isPresent()) {
+            try {
+                schema = new Schema.Parser().parse(file.get().toFile());
+            } catch (IOException | RuntimeException e) {
+                throw new DaprSerializationException("Failed to parse the Avro schema " + file.get() + ".", e);
+            }
+        } else if (SpecificRecord.class.isAssignableFrom(type)) {
+            schema = SpecificData.get().getSchema(type);
+        } else {
+            throw new DaprSerializationException("No Avro schema found for " + type.getName() + " in " + this.schemas.root() + ".");
+        }
+
+        // Datum readers and writers hold no per-call state, so a single instance is shared by all threads.
+        if (SpecificRecord.class.isAssignableFrom(type)) {
+            return new Codec(new SpecificDatumWriter<>(schema), new SpecificDatumReader<>(schema));
+        }
+
+        return new Codec(new ReflectDatumWriter<>(schema), new ReflectDatumReader<>(schema));
+    }
+
+    private static final class Codec {
+        private final DatumWriter<Object> writer;
+        private final DatumReader<Object> reader;
+
+        Codec(DatumWriter<Object> writer, DatumReader<Object> reader) {
+            this.writer = writer;
+            this.reader = reader;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+/**
+ * Thrown when a payload cannot be serialized or deserialized.
+ */
+public class DaprSerializationException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public DaprSerializationException(String message) {
+        super(message);
+    }
+
+    public DaprSerializationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
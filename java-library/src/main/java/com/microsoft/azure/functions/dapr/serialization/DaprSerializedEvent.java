@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+import java.util.Base64;
+
+/**
+ * Event for the Dapr publish output binding whose payload is serialized with a {@link DaprSerializer}.
+ * The Dapr extension publishes it as a CloudEvent with the serializer's content type as the
+ * datacontenttype, the schema of the payload as the dataschema and the payload as the data_base64.
+ *
+ * <pre>
+ * payload.setValue(DaprSerializedEvent.of(order).toJson());
+ * </pre>
+ */
+public final class DaprSerializedEvent {
+    private final byte[] data;
+    private final String contentType;
+    private final String dataSchema;
+    private String pubSubName;
+    private String topic;
+
+    private DaprSerializedEvent(byte[] data, String contentType, String dataSchema) {
+        this.data = data;
+        this.contentType = contentType;
+        this.dataSchema = dataSchema;
+    }
+
+    /**
+     * Serializes a value with the serializer that supports its type.
+     */
+    public static DaprSerializedEvent of(Object value) {
+        return of(value, DaprSerializers.forType(value.getClass()));
+    }
+
+    /**
+     * Serializes a value with the given serializer.
+     */
+    public static DaprSerializedEvent of(Object value, DaprSerializer serializer) {
+        return new DaprSerializedEvent(
+            serializer.serialize(value),
+            serializer.contentType(),
+            serializer.dataSchema(value.getClass()));
+    }
+
+    /**
+     * Sets the pub/sub name, overriding the one of the binding.
+     */
+    public DaprSerializedEvent pubSubName(String pubSubName) {
+        this.pubSubName = pubSubName;
+        return this;
+    }
+
+    /**
+     * Sets the topic, overriding the one of the binding.
+     */
+    public DaprSerializedEvent topic(String topic) {
+        this.topic = topic;
+        return this;
+    }
+
+    public byte[] data() {
+        return this.data.clone();
+    }
+
+    public String contentType() {
+        return this.contentType;
+    }
+
+    public String dataSchema() {
+        return this.dataSchema;
+    }
+
+    /**
+     * Gets the JSON value to set on the publish output binding.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder(this.data.length * 4 / 3 + 128);
+        json.append("{\"payload\":\"").append(Base64.getEncoder().encodeToString(this.data)).append('"');
+        appendProperty(json, "contentType", this.contentType);
+        appendProperty(json, "dataSchema", this.dataSchema);
+        appendProperty(json, "pubsubname", this.pubSubName);
+        appendProperty(json, "topic", this.topic);
+        return json.append('}').toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.toJson();
+    }
+
+    private static void appendProperty(StringBuilder json, String name, String value) {
+        if (value == null) {
+            return;
+        }
+
+        json.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+
+        json.append('"');
+    }
+}
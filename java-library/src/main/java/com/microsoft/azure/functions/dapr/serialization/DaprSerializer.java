@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+/**
+ * Serializes pub/sub payloads to and from a binary format such as Avro or Protobuf.
+ * Implementations are discovered with {@link java.util.ServiceLoader} and looked up through {@link DaprSerializers}.
+ */
+public interface DaprSerializer {
+    /**
+     * Content type of the serialized payload, sent as the datacontenttype of the CloudEvent.
+     */
+    String contentType();
+
+    /**
+     * Whether values of the given type can be serialized by this serializer.
+     */
+    boolean supports(Class<?> type);
+
+    /**
+     * Serializes a value to bytes.
+     */
+    byte[] serialize(Object value);
+
+    /**
+     * Deserializes bytes to a value of the given type.
+     */
+    <T> T deserialize(byte[] data, Class<T> type);
+
+    /**
+     * URI of the schema of the given type, sent as the dataschema of the CloudEvent, or null if there is none.
+     */
+    String dataSchema(Class<?> type);
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link DaprSerializer} implementations on the classpath. Serializers whose
+ * dependencies are missing, e.g. Avro without org.apache.avro:avro, are skipped.
+ */
+public final class DaprSerializers {
+    private static final ConcurrentHashMap<Class<?>, DaprSerializer> BY_TYPE = new ConcurrentHashMap<>();
+
+    private DaprSerializers() {
+    }
+
+    /**
+     * Gets all available serializers.
+     */
+    public static List<DaprSerializer> all() {
+        return Holder.SERIALIZERS;
+    }
+
+    /**
+     * Gets the serializer of a type, e.g. the Avro serializer for a class generated from an Avro schema.
+     */
+    public static DaprSerializer forType(Class<?> type) {
+        return BY_TYPE.computeIfAbsent(type, t -> {
+            for (DaprSerializer serializer : all()) {
+                if (serializer.supports(t)) {
+                    return serializer;
+                }
+            }
+
+            throw new DaprSerializationException("No serializer supports " + t.getName() + ".");
+        });
+    }
+
+    /**
+     * Gets the serializer of a content type, e.g. "application/avro".
+     */
+    public static DaprSerializer forContentType(String contentType) {
+        String mediaType = contentType.split(";")[0].trim();
+        for (DaprSerializer serializer : all()) {
+            if (serializer.contentType().equalsIgnoreCase(mediaType)) {
+                return serializer;
+            }
+        }
+
+        throw new DaprSerializationException("No serializer supports the content type " + contentType + ".");
+    }
+
+    /**
+     * Deserializes the payload of a binary event, e.g. the byte[] received by a topic trigger.
+     */
+    public static <T> T deserialize(byte[] data, Class<T> type) {
+        return forType(type).deserialize(data, type);
+    }
+
+    /**
+     * Instantiates the serializers of a service loader iterator, skipping those that fail to load.
+     */
+    static List<DaprSerializer> load(Iterator<DaprSerializer> iterator) {
+        List<DaprSerializer> serializers = new ArrayList<>();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+
+                serializers.add(iterator.next());
+            } catch (ServiceConfigurationError | LinkageError e) {
+                // The serializer's dependency is not on the classpath.
+            }
+        }
+
+        return Collections.unmodifiableList(serializers);
+    }
+
+    private static final class Holder {
+        private static final List<DaprSerializer> SERIALIZERS = load(ServiceLoader.load(DaprSerializer.class).iterator());
+    }
+}
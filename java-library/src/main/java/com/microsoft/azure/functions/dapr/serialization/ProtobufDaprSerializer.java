@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Protobuf binary serializer for classes generated by protoc. The schema is compiled into the
+ * generated classes; the {@link SchemaDirectory} is only used to report the dataschema of a type,
+ * e.g. https://schemas.contoso.com/com.contoso.Order.proto. Requires com.google.protobuf:protobuf-java
+ * on the classpath.
+ */
+public class ProtobufDaprSerializer implements DaprSerializer {
+    public static final String CONTENT_TYPE = "application/x-protobuf";
+    public static final String SCHEMA_EXTENSION = ".proto";
+
+    private final SchemaDirectory schemas;
+    private final ConcurrentHashMap<Class<?>, Parser<?>> parsers = new ConcurrentHashMap<>();
+
+    public ProtobufDaprSerializer() {
+        this(SchemaDirectory.fromEnvironment());
+    }
+
+    public ProtobufDaprSerializer(SchemaDirectory schemas) {
+        this.schemas = schemas;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return Message.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (!(value instanceof Message)) {
+            throw new DaprSerializationException(value.getClass().getName() + " is not a Protobuf message.");
+        }
+
+        return ((Message) value).toByteArray();
+    }
+
+    @Override
+    public <T> T deserialize(byte[] data, Class<T> type) {
+        try {
+            return type.cast(this.parsers.computeIfAbsent(type, ProtobufDaprSerializer::findParser).parseFrom(data));
+        } catch (InvalidProtocolBufferException e) {
+            throw new DaprSerializationException("Failed to deserialize Protobuf data to " + type.getName() + ".", e);
+        }
+    }
+
+    @Override
+    public String dataSchema(Class<?> type) {
+        return this.schemas.schemaUri(type, SCHEMA_EXTENSION);
+    }
+
+    private static Parser<?> findParser(Class<?> type) {
+        if (!Message.class.isAssignableFrom(type)) {
+            throw new DaprSerializationException(type.getName() + " is not a Protobuf message.");
+        }
+
+        // Generated message classes expose their parser through a static parser() method.
+        try {
+            return (Parser<?>) type.getMethod("parser").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new DaprSerializationException("Failed to get the Protobuf parser of " + type.getName() + ".", e);
+        }
+    }
+}
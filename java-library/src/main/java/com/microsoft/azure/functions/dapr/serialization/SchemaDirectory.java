@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local directory holding the schema files of payload types, named after the fully qualified
+ * class name, e.g. schemas/com.contoso.Order.avsc. Lookups are cached per type and extension.
+ * The dataschema of published events is only set when a base URI, e.g. that of a schema registry,
+ * is configured, as the local path of the producer means nothing to consumers.
+ */
+public final class SchemaDirectory {
+    /**
+     * Environment variable that overrides the location of the schema directory.
+     */
+    public static final String ENVIRONMENT_VARIABLE = "DAPR_SCHEMA_DIRECTORY";
+
+    /**
+     * Schema directory used when the environment variable is not set, relative to the working directory.
+     */
+    public static final String DEFAULT_DIRECTORY = "schemas";
+
+    /**
+     * Environment variable holding the base URI the schema files are published under,
+     * e.g. https://schemas.contoso.com/. The dataschema of a type is the base URI followed by its file name.
+     */
+    public static final String BASE_URI_ENVIRONMENT_VARIABLE = "DAPR_SCHEMA_BASE_URI";
+
+    private final Path root;
+    private final String baseUri;
+    private final ConcurrentHashMap<String, Optional<Path>> cache = new ConcurrentHashMap<>();
+
+    public SchemaDirectory(Path root) {
+        this(root, null);
+    }
+
+    public SchemaDirectory(Path root, String baseUri) {
+        this.root = root.toAbsolutePath().normalize();
+        if (baseUri == null || baseUri.isEmpty()) {
+            this.baseUri = null;
+        } else {
+            // Fail at startup rather than publishing events with an invalid dataschema.
+            this.baseUri = URI.create(baseUri.endsWith("/") ? baseUri : baseUri + "/").toString();
+        }
+    }
+
+    /**
+     * Creates the schema directory configured by the DAPR_SCHEMA_DIRECTORY and DAPR_SCHEMA_BASE_URI
+     * environment variables.
+     */
+    public static SchemaDirectory fromEnvironment() {
+        String directory = System.getenv(ENVIRONMENT_VARIABLE);
+        return new SchemaDirectory(
+            Paths.get(directory == null || directory.isEmpty() ? DEFAULT_DIRECTORY : directory),
+            System.getenv(BASE_URI_ENVIRONMENT_VARIABLE));
+    }
+
+    public Path root() {
+        return this.root;
+    }
+
+    /**
+     * Gets the base URI of the schema files, or null if none is configured.
+     */
+    public String baseUri() {
+        return this.baseUri;
+    }
+
+    /**
+     * Gets the URI of the schema of a type with the given extension, e.g.
+     * https://schemas.contoso.com/com.contoso.Order.avsc, or null if no base URI is configured.
+     */
+    public String schemaUri(Class<?> type, String extension) {
+        return this.baseUri == null ? null : this.baseUri + type.getName() + extension;
+    }
+
+    /**
+     * Finds the schema file of a type with the given extension, e.g. ".avsc".
+     */
+    public Optional<Path> find(Class<?> type, String extension) {
+        return this.cache.computeIfAbsent(type.getName() + extension, fileName -> {
+            Path file = this.root.resolve(fileName);
+            return Files.isRegularFile(file) ? Optional.of(file) : Optional.<Path>empty();
+        });
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AvroDaprSerializerTest {
+    private static final String REFLECT_ORDER_SCHEMA =
+        "{\"type\":\"record\",\"name\":\"ReflectOrder\",\"namespace\":\"com.microsoft.azure.functions.dapr.serialization\","
+            + "\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},"
+            + "{\"name\":\"quantity\",\"type\":\"int\"}]}";
+
+    @TempDir
+    Path schemaRoot;
+
+    @Test
+    void specificRecordRoundTrip() {
+        AvroDaprSerializer serializer = new AvroDaprSerializer(new SchemaDirectory(this.schemaRoot));
+        assertTrue(serializer.supports(AvroOrder.class));
+
+        byte[] data = serializer.serialize(new AvroOrder("order-1", 3));
+        AvroOrder order = serializer.deserialize(data, AvroOrder.class);
+
+        assertEquals("order-1", order.getId());
+        assertEquals(3, order.getQuantity());
+    }
+
+    @Test
+    void reflectClassWithSchemaFileRoundTrip() throws IOException {
+        writeSchema(ReflectOrder.class, REFLECT_ORDER_SCHEMA);
+        AvroDaprSerializer serializer = new AvroDaprSerializer(new SchemaDirectory(this.schemaRoot));
+        assertTrue(serializer.supports(ReflectOrder.class));
+
+        byte[] data = serializer.serialize(new ReflectOrder("order-2", 5));
+        ReflectOrder order = serializer.deserialize(data, ReflectOrder.class);
+
+        assertEquals("order-2", order.getId());
+        assertEquals(5, order.getQuantity());
+    }
+
+    @Test
+    void reflectClassWithoutSchemaFileIsNotSupported() {
+        AvroDaprSerializer serializer = new AvroDaprSerializer(new SchemaDirectory(this.schemaRoot));
+
+        assertFalse(serializer.supports(ReflectOrder.class));
+        assertThrows(DaprSerializationException.class, () -> serializer.serialize(new ReflectOrder("order-3", 1)));
+    }
+
+    @Test
+    void dataSchemaIsBuiltFromBaseUri() {
+        AvroDaprSerializer serializer = new AvroDaprSerializer(
+            new SchemaDirectory(this.schemaRoot, "https://schemas.contoso.com/orders"));
+
+        assertEquals(
+            "https://schemas.contoso.com/orders/com.microsoft.azure.functions.dapr.serialization.AvroOrder.avsc",
+            serializer.dataSchema(AvroOrder.class));
+    }
+
+    @Test
+    void dataSchemaIsOmittedWithoutBaseUri() throws IOException {
+        writeSchema(ReflectOrder.class, REFLECT_ORDER_SCHEMA);
+        AvroDaprSerializer serializer = new AvroDaprSerializer(new SchemaDirectory(this.schemaRoot));
+
+        assertNull(serializer.dataSchema(ReflectOrder.class));
+    }
+
+    private void writeSchema(Class<?> type, String schema) throws IOException {
+        Path file = this.schemaRoot.resolve(type.getName() + AvroDaprSerializer.SCHEMA_EXTENSION);
+        Files.write(file, schema.getBytes(StandardCharsets.UTF_8));
+    }
+}
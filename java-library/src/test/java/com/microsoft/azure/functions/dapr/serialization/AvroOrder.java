@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificRecordBase;
+
+/**
+ * Avro specific record, written the way avro-tools generates it from an .avsc file.
+ */
+public class AvroOrder extends SpecificRecordBase {
+    public static final Schema SCHEMA$ = new Schema.Parser().parse(
+        "{\"type\":\"record\",\"name\":\"AvroOrder\",\"namespace\":\"com.microsoft.azure.functions.dapr.serialization\","
+            + "\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},"
+            + "{\"name\":\"quantity\",\"type\":\"int\"}]}");
+
+    private String id;
+    private int quantity;
+
+    public AvroOrder() {
+    }
+
+    public AvroOrder(String id, int quantity) {
+        this.id = id;
+        this.quantity = quantity;
+    }
+
+    @Override
+    public Schema getSchema() {
+        return SCHEMA$;
+    }
+
+    @Override
+    public Object get(int field) {
+        switch (field) {
+            case 0:
+                return this.id;
+            case 1:
+                return this.quantity;
+            default:
+                throw new IndexOutOfBoundsException("Invalid field index " + field);
+        }
+    }
+
+    @Override
+    public void put(int field, Object value) {
+        switch (field) {
+            case 0:
+                this.id = value == null ? null : value.toString();
+                break;
+            case 1:
+                this.quantity = (Integer) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("Invalid field index " + field);
+        }
+    }
+
+    public String getId() {
+        return this.id;
+    }
+
+    public int getQuantity() {
+        return this.quantity;
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class DaprSerializedEventTest {
+    @Test
+    void toJsonEscapesProperties() {
+        DaprSerializer serializer = new FakeSerializer("application/test", "urn:\"schema\"\\order\n\t");
+
+        String json = DaprSerializedEvent.of(new byte[] {1, 2, 3}, serializer).topic("orders\u0001").toJson();
+
+        assertEquals(
+            "{\"payload\":\"AQID\",\"contentType\":\"application/test\","
+                + "\"dataSchema\":\"urn:\\\"schema\\\"\\\\order\\u000a\\u0009\",\"topic\":\"orders\\u0001\"}",
+            json);
+    }
+
+    @Test
+    void toJsonOmitsUnsetProperties() {
+        String json = DaprSerializedEvent.of(new byte[0], new FakeSerializer("application/test")).toJson();
+
+        assertEquals("{\"payload\":\"\",\"contentType\":\"application/test\"}", json);
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class DaprSerializersTest {
+    @Test
+    void loadSkipsSerializersWithMissingDependencies() {
+        DaprSerializer first = new FakeSerializer("application/first");
+        DaprSerializer last = new FakeSerializer("application/last");
+
+        // ServiceLoader reports a provider whose dependency is missing as a ServiceConfigurationError
+        // or a LinkageError, depending on where class loading fails.
+        List<DaprSerializer> serializers = DaprSerializers.load(providers(
+            () -> first,
+            () -> {
+                throw new ServiceConfigurationError("Provider could not be instantiated");
+            },
+            () -> {
+                throw new NoClassDefFoundError("org/apache/avro/specific/SpecificRecord");
+            },
+            () -> last));
+
+        assertEquals(2, serializers.size());
+        assertSame(first, serializers.get(0));
+        assertSame(last, serializers.get(1));
+    }
+
+    @SafeVarargs
+    private static Iterator<DaprSerializer> providers(Supplier<DaprSerializer>... providers) {
+        Iterator<Supplier<DaprSerializer>> iterator = Arrays.asList(providers).iterator();
+        return new Iterator<DaprSerializer>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public DaprSerializer next() {
+                return iterator.next().get();
+            }
+        };
+    }
+}
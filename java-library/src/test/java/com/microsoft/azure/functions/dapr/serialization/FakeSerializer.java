@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+/**
+ * Serializer that passes byte arrays through, used to test the code around the serializers.
+ */
+class FakeSerializer implements DaprSerializer {
+    private final String contentType;
+    private final String dataSchema;
+
+    FakeSerializer(String contentType) {
+        this(contentType, null);
+    }
+
+    FakeSerializer(String contentType, String dataSchema) {
+        this.contentType = contentType;
+        this.dataSchema = dataSchema;
+    }
+
+    @Override
+    public String contentType() {
+        return this.contentType;
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return type == byte[].class;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        return (byte[]) value;
+    }
+
+    @Override
+    public <T> T deserialize(byte[] data, Class<T> type) {
+        return type.cast(data);
+    }
+
+    @Override
+    public String dataSchema(Class<?> type) {
+        return this.dataSchema;
+    }
+}
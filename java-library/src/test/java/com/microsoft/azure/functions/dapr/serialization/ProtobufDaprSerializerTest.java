@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.protobuf.Timestamp;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.Test;
+
+class ProtobufDaprSerializerTest {
+    private final ProtobufDaprSerializer serializer = new ProtobufDaprSerializer(new SchemaDirectory(Paths.get("schemas")));
+
+    @Test
+    void generatedMessageRoundTripUsesParserMethod() {
+        Timestamp timestamp = Timestamp.newBuilder().setSeconds(1700000000L).setNanos(42).build();
+        assertTrue(this.serializer.supports(Timestamp.class));
+
+        byte[] data = this.serializer.serialize(timestamp);
+
+        assertEquals(timestamp, this.serializer.deserialize(data, Timestamp.class));
+    }
+
+    @Test
+    void nonMessageTypeIsRejected() {
+        assertFalse(this.serializer.supports(String.class));
+        assertThrows(DaprSerializationException.class, () -> this.serializer.serialize("order"));
+        assertThrows(DaprSerializationException.class, () -> this.serializer.deserialize(new byte[0], String.class));
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.dapr.serialization;
+
+/**
+ * Plain class serialized with Avro through a schema file in the schema directory.
+ */
+public class ReflectOrder {
+    private String id;
+    private int quantity;
+
+    public ReflectOrder() {
+    }
+
+    public ReflectOrder(String id, int quantity) {
+        this.id = id;
+        this.quantity = quantity;
+    }
+
+    public String getId() {
+        return this.id;
+    }
+
+    public int getQuantity() {
+        return this.quantity;
+    }
+}
@@ -72,5 +72,23 @@ namespace Microsoft.Azure.Functions.Extensions.Dapr.Core
         [JsonPropertyName("payload")]
         [JsonConverter(typeof(JsonUtils.JsonElementConverter))]
         public JsonElement Payload { get; }
+
+        /// <summary>
+        /// Gets or sets the content type of the payload, which is sent as the <c>datacontenttype</c> of the Cloud Event.
+        /// </summary>
+        /// <remarks>
+        /// If the content type is not JSON (for example <c>application/avro</c>), the payload must be a base64-encoded
+        /// string and is sent as the <c>data_base64</c> of the Cloud Event. If unspecified, the payload is sent as JSON.
+        /// </remarks>
+        [JsonPropertyName("contentType")]
+        [JsonIgnore(Condition = JsonIgnoreCondition.WhenWritingNull)]
+        public string? ContentType { get; set; }
+
+        /// <summary>
+        /// Gets or sets the URI of the schema the payload adheres to, which is sent as the <c>dataschema</c> of the Cloud Event.
+        /// </summary>
+        [JsonPropertyName("dataSchema")]
+        [JsonIgnore(Condition = JsonIgnoreCondition.WhenWritingNull)]
+        public string? DataSchema { get; set; }
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.Functions.Extensions.Dapr.Core
+{
+    using System.Collections.Generic;
+    using System.Text.Json.Serialization;
+
+    /// <summary>
+    /// Routing rules of a Dapr topic subscription.
+    /// https://docs.dapr.io/developing-applications/building-blocks/pubsub/howto-route-messages/.
+    /// </summary>
+    public class DaprTopicRoutes
+    {
+        /// <summary>
+        /// Initializes a new instance of the <see cref="DaprTopicRoutes"/> class.
+        /// </summary>
+        /// <param name="rules">The routing rules, in the order they are evaluated.</param>
+        /// <param name="defaultRoute">The route of the events that match none of the rules (optional).</param>
+        public DaprTopicRoutes(IReadOnlyList<DaprTopicRule> rules, string? defaultRoute = null)
+        {
+            this.Rules = rules;
+            this.Default = defaultRoute;
+        }
+
+        /// <summary>
+        /// Gets the routing rules, in the order they are evaluated.
+        /// </summary>
+        [JsonPropertyName("rules")]
+        public IReadOnlyList<DaprTopicRule> Rules { get; }
+
+        /// <summary>
+        /// Gets the route of the events that match none of the rules.
+        /// If unspecified, these events are dropped.
+        /// </summary>
+        [JsonPropertyName("default")]
+        [JsonIgnore(Condition = JsonIgnoreCondition.WhenWritingNull)]
+        public string? Default { get; }
+    }
+}
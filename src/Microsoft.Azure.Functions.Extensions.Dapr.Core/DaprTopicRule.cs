@@ -0,0 +1,39 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.Functions.Extensions.Dapr.Core
+{
+    using System.Text.Json.Serialization;
+
+    /// <summary>
+    /// Dapr pub/sub routing rule that sends the events matching a CEL expression to a route.
+    /// https://docs.dapr.io/developing-applications/building-blocks/pubsub/howto-route-messages/.
+    /// </summary>
+    public class DaprTopicRule
+    {
+        /// <summary>
+        /// Initializes a new instance of the <see cref="DaprTopicRule"/> class.
+        /// </summary>
+        /// <param name="match">The CEL expression that events must match.</param>
+        /// <param name="path">The route the matching events are sent to.</param>
+        public DaprTopicRule(string match, string path)
+        {
+            this.Match = match;
+            this.Path = path;
+        }
+
+        /// <summary>
+        /// Gets the CEL expression that events must match.
+        /// </summary>
+        [JsonPropertyName("match")]
+        public string Match { get; }
+
+        /// <summary>
+        /// Gets the route the matching events are sent to.
+        /// </summary>
+        [JsonPropertyName("path")]
+        public string Path { get; }
+    }
+}
@@ -43,5 +43,25 @@ namespace Microsoft.Azure.Functions.Extensions.Dapr.Core
         /// </summary>
         [JsonPropertyName("route")]
         public string Route { get; }
+
+        /// <summary>
+        /// Gets or sets the CEL expression that events must match to be sent to <see cref="Route"/>.
+        /// If unspecified, all events that match no other rule of the topic are sent to the route.
+        /// </summary>
+        [JsonIgnore]
+        public string? Match { get; set; }
+
+        /// <summary>
+        /// Gets or sets the priority of the <see cref="Match"/> rule. Rules with a lower value are evaluated first.
+        /// </summary>
+        [JsonIgnore]
+        public int Priority { get; set; }
+
+        /// <summary>
+        /// Gets or sets the routing rules of the topic subscription.
+        /// </summary>
+        [JsonPropertyName("routes")]
+        [JsonIgnore(Condition = JsonIgnoreCondition.WhenWritingNull)]
+        public DaprTopicRoutes? Routes { get; set; }
     }
 }
\ No newline at end of file
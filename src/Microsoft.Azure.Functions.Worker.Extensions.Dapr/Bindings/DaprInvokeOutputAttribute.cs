@@ -26,5 +26,34 @@ namespace Microsoft.Azure.Functions.Worker.Extensions.Dapr
         /// Gets or sets the http verb of the app to invoke.
         /// </summary>
         public string? HttpVerb { get; set; } = "POST";
+
+        /// <summary>
+        /// Gets or sets the timeout in milliseconds for a single invocation attempt.
+        /// A value of zero or less means no per-attempt timeout is applied.
+        /// </summary>
+        public int TimeoutMs { get; set; }
+
+        /// <summary>
+        /// Gets or sets the maximum number of attempts, including the first one. Default is 1 (no retries).
+        /// Only transient failures (timeouts, throttling and 5xx responses) are retried.
+        /// </summary>
+        public int MaxAttempts { get; set; } = 1;
+
+        /// <summary>
+        /// Gets or sets the base delay in milliseconds of the exponential backoff between retries.
+        /// Default is 200 milliseconds.
+        /// </summary>
+        public int RetryBackoffMs { get; set; } = 200;
+
+        /// <summary>
+        /// Gets or sets a value indicating whether hedged requests are enabled for idempotent HTTP verbs.
+        /// </summary>
+        public bool EnableHedging { get; set; }
+
+        /// <summary>
+        /// Gets or sets the latency percentile used as the delay before sending a hedged request.
+        /// Default is 95.
+        /// </summary>
+        public int HedgingPercentile { get; set; } = 95;
     }
 }
\ No newline at end of file
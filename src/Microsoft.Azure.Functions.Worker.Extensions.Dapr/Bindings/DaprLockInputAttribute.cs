@@ -0,0 +1,54 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.Functions.Worker.Extensions.Dapr
+{
+    using System;
+
+    /// <summary>
+    /// Parameter attribute for the Dapr distributed lock input binding. The lock is acquired before
+    /// the function runs and released when the invocation completes.
+    /// </summary>
+    public class DaprLockInputAttribute : DaprBaseInputAttribute
+    {
+        /// <summary>
+        /// Initializes a new instance of the <see cref="DaprLockInputAttribute"/> class.
+        /// </summary>
+        /// <param name="lockStore">The name of the lock store.</param>
+        public DaprLockInputAttribute(string lockStore)
+        {
+            this.LockStore = lockStore ?? throw new ArgumentNullException(nameof(lockStore));
+        }
+
+        /// <summary>
+        /// Gets or sets the name of the lock store.
+        /// Is found in the `metadata.name` of the component.
+        /// </summary>
+        public string? LockStore { get; set; }
+
+        /// <summary>
+        /// Gets or sets the ID of the resource to lock. Binding expressions are supported.
+        /// </summary>
+        public string? ResourceId { get; set; }
+
+        /// <summary>
+        /// Gets or sets the number of seconds after which the lock expires if it has not been released.
+        /// Default is 60 seconds.
+        /// </summary>
+        public int ExpiryInSeconds { get; set; } = 60;
+
+        /// <summary>
+        /// Gets or sets what happens when the lock is held by another owner: <c>FailFast</c> (default) fails
+        /// the invocation, <c>WaitWithBackoff</c> retries with exponential backoff until <see cref="AcquireTimeoutMs"/> elapses.
+        /// </summary>
+        public string? AcquirePolicy { get; set; }
+
+        /// <summary>
+        /// Gets or sets the maximum time in milliseconds to wait for the lock in <c>WaitWithBackoff</c> mode.
+        /// Default is 30000 milliseconds.
+        /// </summary>
+        public int AcquireTimeoutMs { get; set; } = 30000;
+    }
+}
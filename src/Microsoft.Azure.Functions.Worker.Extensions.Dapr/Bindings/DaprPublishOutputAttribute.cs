@@ -21,5 +21,30 @@ namespace Microsoft.Azure.Functions.Worker.Extensions.Dapr
         /// Gets or sets the name of the topic to publish to.
         /// </summary>
         public string? Topic { get; set; }
+
+        /// <summary>
+        /// Gets or sets how events are delivered to the Dapr sidecar: <c>Sync</c> (default) publishes
+        /// before the invocation completes, <c>AsyncBatched</c> buffers events host-wide and publishes
+        /// them in the background with the Dapr bulk publish API.
+        /// </summary>
+        public string? DeliveryMode { get; set; }
+
+        /// <summary>
+        /// Gets or sets the maximum number of events in a single bulk publish request in <c>AsyncBatched</c> mode.
+        /// Default is 100.
+        /// </summary>
+        public int MaxBatchSize { get; set; } = 100;
+
+        /// <summary>
+        /// Gets or sets the maximum time in milliseconds an event is buffered in <c>AsyncBatched</c> mode.
+        /// Default is 50 milliseconds.
+        /// </summary>
+        public int BatchLingerMs { get; set; } = 50;
+
+        /// <summary>
+        /// Gets or sets what happens when the publish buffer is full in <c>AsyncBatched</c> mode:
+        /// <c>Block</c> (default) or <c>Fail</c>.
+        /// </summary>
+        public string? OverflowPolicy { get; set; }
     }
 }
\ No newline at end of file
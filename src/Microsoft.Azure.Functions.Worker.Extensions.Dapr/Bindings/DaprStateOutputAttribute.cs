@@ -31,5 +31,30 @@ namespace Microsoft.Azure.Functions.Worker.Extensions.Dapr
         /// Gets or sets the key name to get or set state.
         /// </summary>
         public string? Key { get; set; }
+
+        /// <summary>
+        /// Gets or sets how values are saved: <c>WriteThrough</c> (default) saves them before the invocation
+        /// completes, <c>WriteBehind</c> buffers them host-wide and saves only the latest value of each key
+        /// in the background.
+        /// </summary>
+        public string? WriteMode { get; set; }
+
+        /// <summary>
+        /// Gets or sets the maximum time in milliseconds a value is buffered in <c>WriteBehind</c> mode.
+        /// Default is 1000 milliseconds.
+        /// </summary>
+        public int FlushIntervalMs { get; set; } = 1000;
+
+        /// <summary>
+        /// Gets or sets the number of buffered keys that triggers an immediate save in <c>WriteBehind</c> mode.
+        /// Default is 100.
+        /// </summary>
+        public int MaxBatchSize { get; set; } = 100;
+
+        /// <summary>
+        /// Gets or sets what happens when the write-behind buffer is full in <c>WriteBehind</c> mode:
+        /// <c>Block</c> (default) or <c>Fail</c>.
+        /// </summary>
+        public string? OverflowPolicy { get; set; }
     }
 }
\ No newline at end of file
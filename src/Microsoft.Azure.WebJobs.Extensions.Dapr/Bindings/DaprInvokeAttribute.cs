@@ -32,5 +32,49 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
         /// </summary>
         [AutoResolve]
         public string HttpVerb { get; set; } = "POST";
+
+        /// <summary>
+        /// Gets or sets the timeout in milliseconds for a single invocation attempt.
+        /// </summary>
+        /// <remarks>
+        /// A value of zero or less means no per-attempt timeout is applied beyond the default
+        /// timeout of the underlying HTTP client.
+        /// </remarks>
+        public int TimeoutMs { get; set; }
+
+        /// <summary>
+        /// Gets or sets the maximum number of attempts, including the first one. Default is 1 (no retries).
+        /// </summary>
+        /// <remarks>
+        /// Only transient failures (timeouts, throttling and 5xx responses) are retried. Retrying a
+        /// non-idempotent method may cause it to be executed more than once by the target app.
+        /// </remarks>
+        public int MaxAttempts { get; set; } = 1;
+
+        /// <summary>
+        /// Gets or sets the base delay in milliseconds of the exponential backoff between retries.
+        /// Default is 200 milliseconds.
+        /// </summary>
+        /// <remarks>
+        /// The delay before retry <c>n</c> is a random value between zero and <c>RetryBackoffMs * 2^(n-1)</c>.
+        /// </remarks>
+        public int RetryBackoffMs { get; set; } = 200;
+
+        /// <summary>
+        /// Gets or sets a value indicating whether hedged requests are enabled.
+        /// </summary>
+        /// <remarks>
+        /// When enabled, a second request is sent if the first one has not completed within the
+        /// <see cref="HedgingPercentile"/> latency observed for the same app and method, and the first
+        /// successful response is used. Hedging only applies to idempotent HTTP verbs
+        /// (GET, HEAD, OPTIONS, PUT and DELETE).
+        /// </remarks>
+        public bool EnableHedging { get; set; }
+
+        /// <summary>
+        /// Gets or sets the latency percentile used as the delay before sending a hedged request.
+        /// Default is 95.
+        /// </summary>
+        public int HedgingPercentile { get; set; } = 95;
     }
 }
\ No newline at end of file
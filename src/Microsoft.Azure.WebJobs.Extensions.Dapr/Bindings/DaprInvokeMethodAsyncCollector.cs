@@ -7,22 +7,35 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
 {
     using System;
     using System.Collections.Concurrent;
+    using System.Diagnostics;
+    using System.Net;
     using System.Threading;
     using System.Threading.Tasks;
     using Microsoft.Azure.Functions.Extensions.Dapr.Core;
     using Microsoft.Azure.WebJobs;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Exceptions;
     using Microsoft.Azure.WebJobs.Extensions.Dapr.Services;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
+    using Microsoft.Extensions.Logging;
 
     class DaprInvokeMethodAsyncCollector : IAsyncCollector<InvokeMethodParameters>
     {
         readonly ConcurrentQueue<InvokeMethodParameters> requests = new ConcurrentQueue<InvokeMethodParameters>();
         readonly DaprInvokeAttribute attr;
         readonly IDaprServiceClient daprService;
+        readonly DaprInvokeLatencyTracker latencyTracker;
+        readonly ILogger logger;
 
-        public DaprInvokeMethodAsyncCollector(DaprInvokeAttribute attr, IDaprServiceClient daprService)
+        public DaprInvokeMethodAsyncCollector(
+            DaprInvokeAttribute attr,
+            IDaprServiceClient daprService,
+            DaprInvokeLatencyTracker latencyTracker,
+            ILogger logger)
         {
             this.attr = attr;
             this.daprService = daprService;
+            this.latencyTracker = latencyTracker;
+            this.logger = logger;
         }
 
         public Task AddAsync(InvokeMethodParameters item, CancellationToken cancellationToken = default)
@@ -49,6 +62,137 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
         public async Task FlushAsync(CancellationToken cancellationToken = default)
         {
             while (this.requests.TryDequeue(out InvokeMethodParameters item))
+            {
+                await this.InvokeWithRetriesAsync(item, cancellationToken);
+            }
+        }
+
+        internal static bool IsIdempotent(string httpVerb)
+        {
+            switch (httpVerb.Trim('"').ToUpperInvariant())
+            {
+                case "GET":
+                case "HEAD":
+                case "OPTIONS":
+                case "PUT":
+                case "DELETE":
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        static void ObserveFailure(Task task)
+        {
+            // The result of the losing request is not used, but its exception must still be observed.
+            task.ContinueWith(t => _ = t.Exception, TaskContinuationOptions.OnlyOnFaulted | TaskContinuationOptions.ExecuteSynchronously);
+        }
+
+        async Task InvokeWithRetriesAsync(InvokeMethodParameters item, CancellationToken cancellationToken)
+        {
+            int maxAttempts = Math.Max(this.attr.MaxAttempts, 1);
+            for (int attempt = 1; ; attempt++)
+            {
+                try
+                {
+                    await this.InvokeWithHedgingAsync(item, cancellationToken);
+                    return;
+                }
+                catch (Exception ex) when (attempt < maxAttempts && !cancellationToken.IsCancellationRequested && RetryUtils.IsTransient(ex))
+                {
+                    TimeSpan delay = RetryUtils.GetBackoffDelay(this.attr.RetryBackoffMs, attempt);
+                    this.logger.LogWarning(
+                        ex,
+                        "Invoking method {MethodName} on app {AppId} failed on attempt {Attempt} of {MaxAttempts}. Retrying in {Delay} ms.",
+                        item.MethodName,
+                        item.AppId,
+                        attempt,
+                        maxAttempts,
+                        (int)delay.TotalMilliseconds);
+
+                    await Task.Delay(delay, cancellationToken);
+                }
+            }
+        }
+
+        async Task InvokeWithHedgingAsync(InvokeMethodParameters item, CancellationToken cancellationToken)
+        {
+            if (!this.attr.EnableHedging
+                || !IsIdempotent(item.HttpVerb!)
+                || !this.latencyTracker.TryGetPercentile(item.AppId!, item.MethodName!, this.attr.HedgingPercentile, out TimeSpan hedgingDelay))
+            {
+                await this.InvokeWithTimeoutAsync(item, cancellationToken);
+                return;
+            }
+
+            using var hedgingCts = CancellationTokenSource.CreateLinkedTokenSource(cancellationToken);
+            var stopwatch = Stopwatch.StartNew();
+            Task primary = this.InvokeWithTimeoutAsync(item, hedgingCts.Token);
+
+            using (var delayCts = CancellationTokenSource.CreateLinkedTokenSource(hedgingCts.Token))
+            {
+                Task delay = Task.Delay(hedgingDelay, delayCts.Token);
+                if (await Task.WhenAny(primary, delay) == primary)
+                {
+                    delayCts.Cancel();
+                    await primary;
+                    return;
+                }
+            }
+
+            if (!this.latencyTracker.TryAcquireHedge(item.AppId!, item.MethodName!))
+            {
+                this.logger.LogDebug(
+                    "No response from method {MethodName} on app {AppId} after {Delay} ms, but the hedging budget is used up. Waiting for the request.",
+                    item.MethodName,
+                    item.AppId,
+                    (int)hedgingDelay.TotalMilliseconds);
+
+                await primary;
+                return;
+            }
+
+            this.logger.LogDebug(
+                "No response from method {MethodName} on app {AppId} after {Delay} ms. Sending a hedged request.",
+                item.MethodName,
+                item.AppId,
+                (int)hedgingDelay.TotalMilliseconds);
+
+            TimeSpan hedgedAt = stopwatch.Elapsed;
+            Task hedged = this.InvokeWithTimeoutAsync(item, hedgingCts.Token);
+
+            // The first successful response wins; the outstanding request is cancelled.
+            Task first = await Task.WhenAny(primary, hedged);
+            Task second = first == primary ? hedged : primary;
+            if (first.Status == TaskStatus.RanToCompletion)
+            {
+                if (!second.IsCompleted)
+                {
+                    // The cancelled request took at least this long. Leaving it out would skew the
+                    // percentile towards the fast responses and make hedging ever more eager.
+                    TimeSpan elapsed = second == primary ? stopwatch.Elapsed : stopwatch.Elapsed - hedgedAt;
+                    this.latencyTracker.Record(item.AppId!, item.MethodName!, elapsed);
+                }
+
+                hedgingCts.Cancel();
+                ObserveFailure(second);
+                return;
+            }
+
+            ObserveFailure(first);
+            await second;
+        }
+
+        async Task InvokeWithTimeoutAsync(InvokeMethodParameters item, CancellationToken cancellationToken)
+        {
+            using var timeoutCts = CancellationTokenSource.CreateLinkedTokenSource(cancellationToken);
+            if (this.attr.TimeoutMs > 0)
+            {
+                timeoutCts.CancelAfter(this.attr.TimeoutMs);
+            }
+
+            var stopwatch = Stopwatch.StartNew();
+            try
             {
                 await this.daprService.InvokeMethodAsync(
                     this.attr.DaprAddress,
@@ -56,8 +200,18 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
                     item.MethodName!,
                     item.HttpVerb!,
                     item.Body,
-                    cancellationToken);
+                    timeoutCts.Token);
             }
+            catch (Exception ex) when (timeoutCts.IsCancellationRequested && !cancellationToken.IsCancellationRequested)
+            {
+                throw new DaprException(
+                    HttpStatusCode.RequestTimeout,
+                    ErrorCodes.ErrDaprRequestTimeout,
+                    $"Invoking method '{item.MethodName}' on app '{item.AppId}' timed out after {this.attr.TimeoutMs} ms.",
+                    ex);
+            }
+
+            this.latencyTracker.Record(item.AppId!, item.MethodName!, stopwatch.Elapsed);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr
+{
+    using System.Text.Json.Serialization;
+
+    /// <summary>
+    /// A distributed lock held for the duration of a function invocation.
+    /// </summary>
+    public class DaprLock
+    {
+        /// <summary>
+        /// Initializes a new instance of the <see cref="DaprLock"/> class.
+        /// </summary>
+        /// <param name="lockStore">The name of the lock store.</param>
+        /// <param name="resourceId">The ID of the locked resource.</param>
+        /// <param name="lockOwner">The owner of the lock.</param>
+        /// <param name="expiryInSeconds">The number of seconds after which the lock expires.</param>
+        public DaprLock(string lockStore, string resourceId, string lockOwner, int expiryInSeconds)
+        {
+            this.LockStore = lockStore;
+            this.ResourceId = resourceId;
+            this.LockOwner = lockOwner;
+            this.ExpiryInSeconds = expiryInSeconds;
+        }
+
+        /// <summary>
+        /// Gets the name of the lock store.
+        /// </summary>
+        [JsonPropertyName("lockStore")]
+        public string LockStore { get; }
+
+        /// <summary>
+        /// Gets the ID of the locked resource.
+        /// </summary>
+        [JsonPropertyName("resourceId")]
+        public string ResourceId { get; }
+
+        /// <summary>
+        /// Gets the owner of the lock, which is unique to the function invocation.
+        /// </summary>
+        [JsonPropertyName("lockOwner")]
+        public string LockOwner { get; }
+
+        /// <summary>
+        /// Gets the number of seconds after which the lock expires if it has not been released.
+        /// </summary>
+        [JsonPropertyName("expiryInSeconds")]
+        public int ExpiryInSeconds { get; }
+    }
+}
@@ -0,0 +1,24 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr
+{
+    /// <summary>
+    /// Specifies what the Dapr-lock input binding does when the lock is held by another owner.
+    /// </summary>
+    public enum DaprLockAcquirePolicy
+    {
+        /// <summary>
+        /// The invocation fails immediately.
+        /// </summary>
+        FailFast,
+
+        /// <summary>
+        /// The lock is requested again with exponential backoff until it is acquired or the
+        /// acquire timeout has elapsed, in which case the invocation fails.
+        /// </summary>
+        WaitWithBackoff,
+    }
+}
@@ -0,0 +1,58 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr
+{
+    using System;
+    using Microsoft.Azure.WebJobs.Description;
+
+    /// <summary>
+    /// Parameter attribute for the Dapr distributed lock input binding. The lock is acquired before
+    /// the function runs and released when the invocation completes.
+    /// </summary>
+    [AttributeUsage(AttributeTargets.Parameter)]
+    [Binding]
+    public sealed class DaprLockAttribute : DaprBaseAttribute
+    {
+        /// <summary>
+        /// Initializes a new instance of the <see cref="DaprLockAttribute"/> class.
+        /// </summary>
+        /// <param name="lockStore">The name of the lock store.</param>
+        public DaprLockAttribute(string lockStore)
+        {
+            this.LockStore = lockStore ?? throw new ArgumentNullException(nameof(lockStore));
+        }
+
+        /// <summary>
+        /// Gets or sets the name of the lock store.
+        /// Is found in the `metadata.name` of the component.
+        /// </summary>
+        [AutoResolve]
+        public string? LockStore { get; set; }
+
+        /// <summary>
+        /// Gets or sets the ID of the resource to lock.
+        /// </summary>
+        [AutoResolve]
+        public string? ResourceId { get; set; }
+
+        /// <summary>
+        /// Gets or sets the number of seconds after which the lock expires if it has not been released.
+        /// Default is 60 seconds.
+        /// </summary>
+        public int ExpiryInSeconds { get; set; } = 60;
+
+        /// <summary>
+        /// Gets or sets what happens when the lock is held by another owner. Default is <see cref="DaprLockAcquirePolicy.FailFast"/>.
+        /// </summary>
+        public DaprLockAcquirePolicy AcquirePolicy { get; set; } = DaprLockAcquirePolicy.FailFast;
+
+        /// <summary>
+        /// Gets or sets the maximum time in milliseconds to wait for the lock
+        /// when <see cref="AcquirePolicy"/> is <see cref="DaprLockAcquirePolicy.WaitWithBackoff"/>. Default is 30000 milliseconds.
+        /// </summary>
+        public int AcquireTimeoutMs { get; set; } = 30000;
+    }
+}
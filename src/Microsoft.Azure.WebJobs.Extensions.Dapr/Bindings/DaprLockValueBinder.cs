@@ -0,0 +1,168 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr
+{
+    using System;
+    using System.Diagnostics;
+    using System.Net;
+    using System.Text;
+    using System.Text.Json;
+    using System.Threading;
+    using System.Threading.Tasks;
+    using Microsoft.Azure.Functions.Extensions.Dapr.Core.Utils;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Exceptions;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Services;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
+    using Microsoft.Azure.WebJobs.Host.Bindings;
+    using Microsoft.Extensions.Logging;
+    using Newtonsoft.Json.Linq;
+
+    /// <summary>
+    /// Value binder that holds a distributed lock for the duration of a function invocation.
+    /// The lock is acquired when the binder is created, before the function runs, and released
+    /// once the invocation completes, whether it succeeded or not.
+    /// </summary>
+    sealed class DaprLockValueBinder : IValueBinder, IDisposable
+    {
+        const int AcquireBackoffMs = 100;
+
+        readonly DaprLockAttribute attr;
+        readonly DaprLock daprLock;
+        readonly IDaprServiceClient daprClient;
+        readonly ILogger logger;
+
+        int released;
+
+        DaprLockValueBinder(DaprLockAttribute attr, DaprLock daprLock, Type type, IDaprServiceClient daprClient, ILogger logger)
+        {
+            this.attr = attr;
+            this.daprLock = daprLock;
+            this.Type = type;
+            this.daprClient = daprClient;
+            this.logger = logger;
+        }
+
+        public Type Type { get; }
+
+        public static async Task<IValueBinder> AcquireAsync(
+            DaprLockAttribute attr,
+            Type type,
+            IDaprServiceClient daprClient,
+            ILogger logger,
+            CancellationToken cancellationToken = default)
+        {
+            string lockStore = string.IsNullOrEmpty(attr.LockStore)
+                ? throw new ArgumentException("A non-empty lock store name must be specified.")
+                : attr.LockStore!;
+            string resourceId = string.IsNullOrEmpty(attr.ResourceId)
+                ? throw new ArgumentException("A non-empty resource ID must be specified.")
+                : attr.ResourceId!;
+
+            var daprLock = new DaprLock(lockStore, resourceId, Guid.NewGuid().ToString("N"), Math.Max(attr.ExpiryInSeconds, 1));
+
+            var stopwatch = Stopwatch.StartNew();
+            for (int attempt = 1; ; attempt++)
+            {
+                if (await daprClient.TryLockAsync(attr.DaprAddress, lockStore, resourceId, daprLock.LockOwner, daprLock.ExpiryInSeconds, cancellationToken))
+                {
+                    logger.LogDebug("Acquired lock on {ResourceId} in lock store {LockStore} after {Attempts} attempt(s).", resourceId, lockStore, attempt);
+                    return new DaprLockValueBinder(attr, daprLock, type, daprClient, logger);
+                }
+
+                TimeSpan delay = RetryUtils.GetBackoffDelay(AcquireBackoffMs, attempt);
+                if (attr.AcquirePolicy != DaprLockAcquirePolicy.WaitWithBackoff
+                    || stopwatch.Elapsed + delay > TimeSpan.FromMilliseconds(attr.AcquireTimeoutMs))
+                {
+                    throw new DaprException(
+                        HttpStatusCode.Conflict,
+                        ErrorCodes.ErrDaprLockNotAcquired,
+                        $"The lock on '{resourceId}' in lock store '{lockStore}' is held by another owner.");
+                }
+
+                await Task.Delay(delay, cancellationToken);
+            }
+        }
+
+        public Task<object> GetValueAsync()
+        {
+            object value;
+            if (this.Type == typeof(DaprLock))
+            {
+                value = this.daprLock;
+            }
+            else
+            {
+                string json = JsonSerializer.Serialize(this.daprLock, JsonUtils.DefaultSerializerOptions);
+                if (this.Type == typeof(byte[]))
+                {
+                    value = Encoding.UTF8.GetBytes(json);
+                }
+                else if (this.Type == typeof(JsonElement))
+                {
+                    value = JsonDocument.Parse(json).RootElement;
+                }
+                else if (this.Type == typeof(JObject))
+                {
+                    value = JObject.Parse(json);
+                }
+                else
+                {
+                    value = json;
+                }
+            }
+
+            return Task.FromResult(value);
+        }
+
+        public Task SetValueAsync(object value, CancellationToken cancellationToken)
+        {
+            // Called when the function completes successfully.
+            return this.ReleaseAsync(cancellationToken);
+        }
+
+        public string ToInvokeString() => $"{this.daprLock.LockStore}/{this.daprLock.ResourceId}";
+
+        public void Dispose()
+        {
+            // Called when the invocation ends, including when the function failed. Releasing is not
+            // awaited here; if it fails, the lock is released by the lock store when it expires.
+            _ = this.ReleaseAsync(CancellationToken.None);
+        }
+
+        async Task ReleaseAsync(CancellationToken cancellationToken)
+        {
+            if (Interlocked.Exchange(ref this.released, 1) != 0)
+            {
+                return;
+            }
+
+            try
+            {
+                if (!await this.daprClient.UnlockAsync(
+                    this.attr.DaprAddress,
+                    this.daprLock.LockStore,
+                    this.daprLock.ResourceId,
+                    this.daprLock.LockOwner,
+                    cancellationToken))
+                {
+                    this.logger.LogWarning(
+                        "The lock on {ResourceId} in lock store {LockStore} was no longer held when the invocation completed. It may have expired after {Expiry} seconds.",
+                        this.daprLock.ResourceId,
+                        this.daprLock.LockStore,
+                        this.daprLock.ExpiryInSeconds);
+                }
+            }
+            catch (Exception ex)
+            {
+                this.logger.LogError(
+                    ex,
+                    "Failed to release the lock on {ResourceId} in lock store {LockStore}. It is released when it expires.",
+                    this.daprLock.ResourceId,
+                    this.daprLock.LockStore);
+            }
+        }
+    }
+}
@@ -8,23 +8,27 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
     using System;
     using System.Collections.Concurrent;
     using System.Linq;
+    using System.Text.Json;
     using System.Threading;
     using System.Threading.Tasks;
     using Microsoft.Azure.Functions.Extensions.Dapr.Core;
     using Microsoft.Azure.WebJobs;
     using Microsoft.Azure.WebJobs.Extensions.Dapr.Services;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
 
     class DaprPublishAsyncCollector : IAsyncCollector<DaprPubSubEvent>
     {
         readonly ConcurrentBag<DaprPubSubEvent> events = new ConcurrentBag<DaprPubSubEvent>();
 
         readonly IDaprServiceClient daprClient;
+        readonly DaprPublishBatcher publishBatcher;
         readonly DaprPublishAttribute attr;
 
-        public DaprPublishAsyncCollector(DaprPublishAttribute attr, IDaprServiceClient daprClient)
+        public DaprPublishAsyncCollector(DaprPublishAttribute attr, IDaprServiceClient daprClient, DaprPublishBatcher publishBatcher)
         {
             this.attr = attr;
             this.daprClient = daprClient;
+            this.publishBatcher = publishBatcher;
         }
 
         public Task AddAsync(DaprPubSubEvent item, CancellationToken cancellationToken = default)
@@ -32,6 +36,11 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
             item.PubSubName ??= this.attr.PubSubName ?? throw new ArgumentException("No pub/sub name was found. Make sure it is configured either in the binding properties or in the data payload.", nameof(item));
             item.Topic ??= this.attr.Topic ?? throw new ArgumentException("No topic information was found. Make sure it is configured either in the binding properties or in the data payload.", nameof(item));
 
+            if (!CloudEventUtils.IsJsonContentType(item.ContentType) && !CloudEventUtils.IsBase64String(item.Payload))
+            {
+                throw new ArgumentException($"The payload of an event with content type '{item.ContentType}' must be a base64-encoded string.", nameof(item));
+            }
+
             this.events.Add(item);
 
             return Task.CompletedTask;
@@ -44,17 +53,35 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
                 return Task.CompletedTask;
             }
 
+            if (this.attr.DeliveryMode == DaprPublishDeliveryMode.AsyncBatched)
+            {
+                return this.EnqueueAllAsync(cancellationToken);
+            }
+
             // Publish all events in parallel
             //
             // Name and Topic cannot be null here - we verify them when the event is added.
-            return Task.WhenAll(
-                this.events.Select(
-                    e => this.daprClient.PublishEventAsync(
-                        this.attr.DaprAddress,
-                        e.PubSubName!,
-                        e.Topic!,
-                        e.Payload,
-                        cancellationToken)));
+            return Task.WhenAll(this.events.Select(e => this.PublishAsync(e, cancellationToken)));
+        }
+
+        Task PublishAsync(DaprPubSubEvent item, CancellationToken cancellationToken)
+        {
+            JsonElement body = CloudEventUtils.GetPublishBody(item, out string contentType);
+            if (contentType == CloudEventUtils.CloudEventsContentType)
+            {
+                return this.daprClient.PublishCloudEventAsync(this.attr.DaprAddress, item.PubSubName!, item.Topic!, body, cancellationToken);
+            }
+
+            return this.daprClient.PublishEventAsync(this.attr.DaprAddress, item.PubSubName!, item.Topic!, body, cancellationToken);
+        }
+
+        async Task EnqueueAllAsync(CancellationToken cancellationToken)
+        {
+            // Hand the events over to the host-wide buffer; they are published in the background.
+            while (this.events.TryTake(out DaprPubSubEvent item))
+            {
+                await this.publishBatcher.EnqueueAsync(this.attr, item, cancellationToken);
+            }
         }
     }
 }
\ No newline at end of file
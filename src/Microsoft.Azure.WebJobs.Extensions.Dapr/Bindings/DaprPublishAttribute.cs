@@ -26,5 +26,29 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
         /// </summary>
         [AutoResolve]
         public string? Topic { get; set; }
+
+        /// <summary>
+        /// Gets or sets how events are delivered to the Dapr sidecar. Default is <see cref="DaprPublishDeliveryMode.Sync"/>.
+        /// </summary>
+        public DaprPublishDeliveryMode DeliveryMode { get; set; } = DaprPublishDeliveryMode.Sync;
+
+        /// <summary>
+        /// Gets or sets the maximum number of events sent in a single bulk publish request
+        /// when <see cref="DeliveryMode"/> is <see cref="DaprPublishDeliveryMode.AsyncBatched"/>. Default is 100.
+        /// </summary>
+        public int MaxBatchSize { get; set; } = 100;
+
+        /// <summary>
+        /// Gets or sets the maximum time in milliseconds an event is buffered before its batch is published
+        /// when <see cref="DeliveryMode"/> is <see cref="DaprPublishDeliveryMode.AsyncBatched"/>. Default is 50 milliseconds.
+        /// </summary>
+        public int BatchLingerMs { get; set; } = 50;
+
+        /// <summary>
+        /// Gets or sets what happens when the host-wide publish buffer is full
+        /// and <see cref="DeliveryMode"/> is <see cref="DaprPublishDeliveryMode.AsyncBatched"/>.
+        /// Default is <see cref="DaprPublishOverflowPolicy.Block"/>.
+        /// </summary>
+        public DaprPublishOverflowPolicy OverflowPolicy { get; set; } = DaprPublishOverflowPolicy.Block;
     }
 }
\ No newline at end of file
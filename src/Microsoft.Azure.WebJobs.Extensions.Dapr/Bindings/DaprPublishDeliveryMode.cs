@@ -0,0 +1,25 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr
+{
+    /// <summary>
+    /// Specifies how events written to the Dapr-publish output binding are delivered to the Dapr sidecar.
+    /// </summary>
+    public enum DaprPublishDeliveryMode
+    {
+        /// <summary>
+        /// Events are published before the function invocation completes, one request per event.
+        /// </summary>
+        Sync,
+
+        /// <summary>
+        /// Events are buffered host-wide, coalesced across invocations by pub/sub and topic, and
+        /// published in the background using the Dapr bulk publish API. The function invocation
+        /// completes as soon as its events are buffered, so publish failures are only logged.
+        /// </summary>
+        AsyncBatched,
+    }
+}
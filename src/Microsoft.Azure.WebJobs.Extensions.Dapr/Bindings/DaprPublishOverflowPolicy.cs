@@ -0,0 +1,24 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr
+{
+    /// <summary>
+    /// Specifies what happens when an event is published in <see cref="DaprPublishDeliveryMode.AsyncBatched"/>
+    /// mode and the host-wide publish buffer is full.
+    /// </summary>
+    public enum DaprPublishOverflowPolicy
+    {
+        /// <summary>
+        /// Wait until buffered events have been published and space is available.
+        /// </summary>
+        Block,
+
+        /// <summary>
+        /// Fail the function invocation immediately.
+        /// </summary>
+        Fail,
+    }
+}
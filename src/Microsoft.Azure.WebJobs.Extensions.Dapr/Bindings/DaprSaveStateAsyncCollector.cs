@@ -7,6 +7,7 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
 {
     using System;
     using System.Collections.Concurrent;
+    using System.Collections.Generic;
     using System.Linq;
     using System.Threading;
     using System.Threading.Tasks;
@@ -15,15 +16,17 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
 
     class DaprSaveStateAsyncCollector : IAsyncCollector<DaprStateRecord>
     {
-        readonly ConcurrentBag<DaprStateRecord> requests = new ConcurrentBag<DaprStateRecord>();
+        readonly ConcurrentQueue<DaprStateRecord> requests = new ConcurrentQueue<DaprStateRecord>();
 
         readonly IDaprServiceClient daprClient;
+        readonly DaprStateWriteBehindBuffer writeBehindBuffer;
         readonly DaprStateAttribute attr;
 
-        public DaprSaveStateAsyncCollector(DaprStateAttribute attr, IDaprServiceClient daprClient)
+        public DaprSaveStateAsyncCollector(DaprStateAttribute attr, IDaprServiceClient daprClient, DaprStateWriteBehindBuffer writeBehindBuffer)
         {
             this.attr = attr;
             this.daprClient = daprClient;
+            this.writeBehindBuffer = writeBehindBuffer;
         }
 
         public Task AddAsync(DaprStateRecord item, CancellationToken cancellationToken = default)
@@ -33,18 +36,63 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
                 item.Key = this.attr.Key ?? throw new ArgumentException("No key information was found. Make sure it is configured either in the binding properties or in the data payload.", nameof(item));
             }
 
-            this.requests.Add(item);
+            this.requests.Enqueue(item);
 
             return Task.CompletedTask;
         }
 
         public Task FlushAsync(CancellationToken cancellationToken = default)
         {
+            if (this.attr.WriteMode == DaprStateWriteMode.WriteBehind)
+            {
+                return this.WriteBehindAsync(cancellationToken);
+            }
+
             return this.daprClient.SaveStateAsync(
                 this.attr.DaprAddress,
                 this.attr.StateStore,
                 this.requests.Take(this.requests.Count),
                 cancellationToken);
         }
+
+        async Task WriteBehindAsync(CancellationToken cancellationToken)
+        {
+            // Records are handled in the order they were added, so the last write of a key wins.
+            // Records with an etag rely on optimistic concurrency and cannot be coalesced, so they are written through.
+            var writeThrough = new List<DaprStateRecord>();
+            while (this.requests.TryDequeue(out DaprStateRecord item))
+            {
+                if (item.ETag == null)
+                {
+                    // A newer value of a key that is about to be written through must not be saved before it.
+                    if (writeThrough.Any(r => r.Key == item.Key))
+                    {
+                        await this.WriteThroughAsync(writeThrough, cancellationToken);
+                    }
+
+                    await this.writeBehindBuffer.AddAsync(this.attr, item, cancellationToken);
+                }
+                else
+                {
+                    await this.writeBehindBuffer.DiscardAsync(this.attr.DaprAddress, this.attr.StateStore, item.Key!);
+                    writeThrough.Add(item);
+                }
+            }
+
+            await this.WriteThroughAsync(writeThrough, cancellationToken);
+        }
+
+        async Task WriteThroughAsync(List<DaprStateRecord> records, CancellationToken cancellationToken)
+        {
+            if (records.Count > 0)
+            {
+                await this.daprClient.SaveStateAsync(
+                    this.attr.DaprAddress,
+                    this.attr.StateStore,
+                    records.ToList(),
+                    cancellationToken);
+                records.Clear();
+            }
+        }
     }
 }
\ No newline at end of file
@@ -36,5 +36,28 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
         /// </summary>
         [AutoResolve]
         public string? Key { get; set; }
+
+        /// <summary>
+        /// Gets or sets how values are saved when used as an output binding. Default is <see cref="DaprStateWriteMode.WriteThrough"/>.
+        /// </summary>
+        public DaprStateWriteMode WriteMode { get; set; } = DaprStateWriteMode.WriteThrough;
+
+        /// <summary>
+        /// Gets or sets the maximum time in milliseconds a value is buffered before it is saved
+        /// when <see cref="WriteMode"/> is <see cref="DaprStateWriteMode.WriteBehind"/>. Default is 1000 milliseconds.
+        /// </summary>
+        public int FlushIntervalMs { get; set; } = 1000;
+
+        /// <summary>
+        /// Gets or sets the number of buffered keys that triggers an immediate save
+        /// when <see cref="WriteMode"/> is <see cref="DaprStateWriteMode.WriteBehind"/>. Default is 100.
+        /// </summary>
+        public int MaxBatchSize { get; set; } = 100;
+
+        /// <summary>
+        /// Gets or sets what happens when the host-wide write-behind buffer is full
+        /// when <see cref="WriteMode"/> is <see cref="DaprStateWriteMode.WriteBehind"/>. Default is <see cref="DaprStateOverflowPolicy.Block"/>.
+        /// </summary>
+        public DaprStateOverflowPolicy OverflowPolicy { get; set; } = DaprStateOverflowPolicy.Block;
     }
 }
\ No newline at end of file
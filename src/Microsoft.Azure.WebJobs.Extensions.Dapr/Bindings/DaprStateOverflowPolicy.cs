@@ -0,0 +1,24 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr
+{
+    /// <summary>
+    /// Specifies what happens when a value is saved in <see cref="DaprStateWriteMode.WriteBehind"/>
+    /// mode and the host-wide write-behind buffer is full.
+    /// </summary>
+    public enum DaprStateOverflowPolicy
+    {
+        /// <summary>
+        /// Wait until buffered values have been saved and space is available.
+        /// </summary>
+        Block,
+
+        /// <summary>
+        /// Fail the function invocation immediately.
+        /// </summary>
+        Fail,
+    }
+}
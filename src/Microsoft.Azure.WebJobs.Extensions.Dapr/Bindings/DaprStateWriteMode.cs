@@ -0,0 +1,26 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr
+{
+    /// <summary>
+    /// Specifies how values written to the Dapr-state output binding are saved to the state store.
+    /// </summary>
+    public enum DaprStateWriteMode
+    {
+        /// <summary>
+        /// Values are saved before the function invocation completes.
+        /// </summary>
+        WriteThrough,
+
+        /// <summary>
+        /// Values are buffered host-wide per state store and key, and saved in the background.
+        /// Only the latest value of each key is saved, so intermediate values may never reach the
+        /// state store and reads may return a stale value until the buffer is flushed.
+        /// Records with an etag are always written through.
+        /// </summary>
+        WriteBehind,
+    }
+}
@@ -11,6 +11,8 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
         {
             public const string AppPort = "DAPR_APP_PORT";
             public const string DisableSidecarMetadataCheck = "DAPR_DISABLE_SIDECAR_METADATA_CHECK";
+            public const string PublishBufferCapacity = "DAPR_PUBLISH_BUFFER_CAPACITY";
+            public const string StateBufferCapacity = "DAPR_STATE_BUFFER_CAPACITY";
             public const string SidecarHttpPort = "DAPR_HTTP_PORT";
             public const string AzureWebsiteInstanceId = "WEBSITE_INSTANCE_ID";
             public const string AzureWebsiteSku = "WEBSITE_SKU";
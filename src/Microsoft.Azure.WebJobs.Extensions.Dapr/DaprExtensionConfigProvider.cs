@@ -10,6 +10,7 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
     using System.IO;
     using System.Text;
     using System.Text.Json;
+    using System.Threading;
     using Microsoft.Azure.Functions.Extensions.Dapr.Core;
     using Microsoft.Azure.WebJobs;
     using Microsoft.Azure.WebJobs.Description;
@@ -18,6 +19,7 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
     using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
     using Microsoft.Azure.WebJobs.Host.Bindings;
     using Microsoft.Azure.WebJobs.Host.Config;
+    using Microsoft.Extensions.Hosting;
     using Microsoft.Extensions.Logging;
     using Newtonsoft.Json.Linq;
 
@@ -29,21 +31,33 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
     {
         readonly IDaprServiceClient daprClient;
         readonly IDaprServiceListener daprListener;
+        readonly DaprPublishBatcher publishBatcher;
+        readonly DaprStateWriteBehindBuffer stateWriteBehindBuffer;
         readonly INameResolver nameResolver;
         readonly ILoggerFactory loggerFactory;
         readonly ILogger logger;
+        readonly CancellationToken hostStopping;
+        readonly DaprInvokeLatencyTracker invokeLatencyTracker = new DaprInvokeLatencyTracker();
 
         public DaprExtensionConfigProvider(
             IDaprServiceClient daprClient,
             IDaprServiceListener daprListener,
+            DaprPublishBatcher publishBatcher,
+            DaprStateWriteBehindBuffer stateWriteBehindBuffer,
             ILoggerFactory loggerFactory,
-            INameResolver nameResolver)
+            INameResolver nameResolver,
+            IApplicationLifetime applicationLifetime)
         {
             this.daprClient = daprClient ?? throw new ArgumentNullException(nameof(daprClient));
             this.daprListener = daprListener ?? throw new ArgumentNullException(nameof(daprListener));
+            this.publishBatcher = publishBatcher ?? throw new ArgumentNullException(nameof(publishBatcher));
+            this.stateWriteBehindBuffer = stateWriteBehindBuffer ?? throw new ArgumentNullException(nameof(stateWriteBehindBuffer));
             this.loggerFactory = loggerFactory ?? throw new ArgumentNullException(nameof(loggerFactory));
             this.nameResolver = nameResolver;
 
+            // Lock acquisition may wait for a while, it must not hold up host shutdown.
+            this.hostStopping = (applicationLifetime ?? throw new ArgumentNullException(nameof(applicationLifetime))).ApplicationStopping;
+
             this.logger = loggerFactory.CreateLogger(LoggingUtils.CreateDaprTriggerCategory());
         }
 
@@ -65,7 +79,7 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
             stateRule.AddConverter<JObject, DaprStateRecord>(CreateSaveStateParameters);
             stateRule.AddConverter<JToken, DaprStateRecord>(CreateSaveStateParameters);
             stateRule.AddConverter<object, DaprStateRecord>(CreateSaveStateParameters);
-            stateRule.BindToCollector(attr => new DaprSaveStateAsyncCollector(attr, this.daprClient));
+            stateRule.BindToCollector(attr => new DaprSaveStateAsyncCollector(attr, this.daprClient, this.stateWriteBehindBuffer));
             stateRule.BindToInput<DaprStateRecord>(daprStateConverter);
             stateRule.BindToInput<string>(daprStateConverter);
             stateRule.BindToInput<Stream>(daprStateConverter);
@@ -80,7 +94,8 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
             invokeRule.AddConverter<JObject, InvokeMethodParameters>(CreateInvokeMethodParameters);
             invokeRule.AddConverter<JToken, InvokeMethodParameters>(CreateInvokeMethodParameters);
             invokeRule.AddConverter<object, InvokeMethodParameters>(CreateInvokeMethodParameters);
-            invokeRule.BindToCollector(attr => new DaprInvokeMethodAsyncCollector(attr, this.daprClient));
+            var invokeLogger = this.loggerFactory.CreateLogger(LoggingUtils.CreateDaprBindingCategory("InvokeOutput"));
+            invokeRule.BindToCollector(attr => new DaprInvokeMethodAsyncCollector(attr, this.daprClient, this.invokeLatencyTracker, invokeLogger));
 
             var publishRule = context.AddBindingRule<DaprPublishAttribute>();
             publishRule.AddConverter<byte[], DaprPubSubEvent>(CreatePubSubEvent);
@@ -88,7 +103,7 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
             publishRule.AddConverter<JObject, DaprPubSubEvent>(CreatePubSubEvent);
             publishRule.AddConverter<JToken, DaprPubSubEvent>(CreatePubSubEvent);
             publishRule.AddConverter<object, DaprPubSubEvent>(CreatePubSubEvent);
-            publishRule.BindToCollector(attr => new DaprPublishAsyncCollector(attr, this.daprClient));
+            publishRule.BindToCollector(attr => new DaprPublishAsyncCollector(attr, this.daprClient, this.publishBatcher));
 
             var daprBindingRule = context.AddBindingRule<DaprBindingAttribute>();
             daprBindingRule.AddConverter<byte[], DaprBindingMessage>(CreateBindingMessage);
@@ -106,6 +121,14 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
             secretsRule.BindToInput<JToken>(daprSecretConverter);
             secretsRule.BindToInput<OpenType>(typeof(DaprSecretsGenericsConverter<>), this.daprClient);
 
+            var lockLogger = this.loggerFactory.CreateLogger(LoggingUtils.CreateDaprBindingCategory("LockInput"));
+            var lockRule = context.AddBindingRule<DaprLockAttribute>();
+            lockRule.BindToValueProvider<DaprLock>((attr, type) => DaprLockValueBinder.AcquireAsync(attr, type, this.daprClient, lockLogger, this.hostStopping));
+            lockRule.BindToValueProvider<string>((attr, type) => DaprLockValueBinder.AcquireAsync(attr, type, this.daprClient, lockLogger, this.hostStopping));
+            lockRule.BindToValueProvider<byte[]>((attr, type) => DaprLockValueBinder.AcquireAsync(attr, type, this.daprClient, lockLogger, this.hostStopping));
+            lockRule.BindToValueProvider<JsonElement>((attr, type) => DaprLockValueBinder.AcquireAsync(attr, type, this.daprClient, lockLogger, this.hostStopping));
+            lockRule.BindToValueProvider<JObject>((attr, type) => DaprLockValueBinder.AcquireAsync(attr, type, this.daprClient, lockLogger, this.hostStopping));
+
             context.AddBindingRule<DaprServiceInvocationTriggerAttribute>()
                 .BindToTrigger(new DaprServiceInvocationTriggerBindingProvider(
                     this.loggerFactory.CreateLogger(LoggingUtils.CreateDaprTriggerCategory("ServiceInvocationTrigger")),
@@ -172,6 +195,17 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
                 event_.Topic = topic.GetString();
             }
 
+            // A non-JSON content type, e.g. application/avro, requires the payload to be a base64-encoded string.
+            if (propertyBag.TryGetValue("contenttype", out JsonElement contentType))
+            {
+                event_.ContentType = contentType.GetString();
+            }
+
+            if (propertyBag.TryGetValue("dataschema", out JsonElement dataSchema))
+            {
+                event_.DataSchema = dataSchema.GetString();
+            }
+
             return event_;
         }
 
@@ -40,6 +40,8 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
                 .Services
                 .AddSingleton<IDaprServiceClient, DaprServiceClient>()
                 .AddSingleton<IDaprServiceListener, DaprServiceListener>()
+                .AddSingleton<DaprPublishBatcher>()
+                .AddSingleton<DaprStateWriteBehindBuffer>()
                 .AddSingleton<IDaprClient, DaprHttpClient>()
                 .AddHttpClient();
 
@@ -0,0 +1,27 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Exceptions
+{
+    using System.Collections.Generic;
+    using System.Net;
+
+    /// <summary>
+    /// Thrown when some or all of the entries of a bulk publish request failed.
+    /// </summary>
+    sealed class DaprBulkPublishException : DaprException
+    {
+        public DaprBulkPublishException(HttpStatusCode statusCode, string errorCode, string message, IReadOnlyList<string> failedEntryIds)
+            : base(statusCode, errorCode, message)
+        {
+            this.FailedEntryIds = failedEntryIds;
+        }
+
+        /// <summary>
+        /// Gets the IDs of the entries that failed to publish.
+        /// </summary>
+        public IReadOnlyList<string> FailedEntryIds { get; }
+    }
+}
@@ -6,6 +6,7 @@
 namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
 {
     using System;
+    using System.Collections.Generic;
     using System.Net;
     using System.Net.Http;
     using System.Net.Sockets;
@@ -71,6 +72,7 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
             {
                 string errorCode = string.Empty;
                 string errorMessage = string.Empty;
+                List<string>? failedEntryIds = null;
 
                 if (response.Content != null && response.Content.Headers.ContentLength != 0)
                 {
@@ -100,10 +102,36 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
                     {
                         errorCode = errorCodeToken.GetRawText();
                     }
+
+                    // Bulk publish reports the entries that failed, the others were published.
+                    // https://docs.dapr.io/reference/api/pubsub_api/#response-content
+                    if (daprError.TryGetProperty("failedEntries", out JsonElement failedEntriesToken)
+                        && failedEntriesToken.ValueKind == JsonValueKind.Array)
+                    {
+                        failedEntryIds = new List<string>();
+                        foreach (JsonElement failedEntry in failedEntriesToken.EnumerateArray())
+                        {
+                            if (failedEntry.ValueKind == JsonValueKind.Object
+                                && failedEntry.TryGetProperty("entryId", out JsonElement entryIdToken)
+                                && entryIdToken.ValueKind == JsonValueKind.String)
+                            {
+                                failedEntryIds.Add(entryIdToken.GetString()!);
+                            }
+                        }
+                    }
                 }
 
                 logger.LogError($"Dapr Service returned an error. Status Code: {response.StatusCode}, Error Code: {errorCode}, Error Message: {errorMessage}");
 
+                if (failedEntryIds != null)
+                {
+                    throw new DaprBulkPublishException(
+                        response.StatusCode,
+                        string.IsNullOrEmpty(errorCode) ? ErrorCodes.ErrUnknown : errorCode,
+                        $"{failedEntryIds.Count} entries failed to publish.",
+                        failedEntryIds);
+                }
+
                 // avoid potential overrides: specific 404 error messages can be returned from Dapr
                 // ex: https://docs.dapr.io/reference/api/actors_api/#get-actor-state
                 if (response.StatusCode == HttpStatusCode.NotFound)
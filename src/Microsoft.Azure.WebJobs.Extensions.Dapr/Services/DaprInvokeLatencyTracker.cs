@@ -0,0 +1,131 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
+{
+    using System;
+    using System.Collections.Concurrent;
+
+    /// <summary>
+    /// Tracks the latency of recent service invocations per app and method, which is used
+    /// to decide how long to wait before sending a hedged request, and the budget of hedged
+    /// requests, which keeps hedging from multiplying the load on an app that is slow across the board.
+    /// </summary>
+    internal sealed class DaprInvokeLatencyTracker
+    {
+        internal const int WindowSize = 256;
+        internal const int MinSampleCount = 20;
+        internal const int MaxTrackedMethods = 1024;
+
+        // Every recorded request earns a tenth of a hedged request, so at most about 10% of the requests
+        // are hedged. Unused budget accumulates up to a small burst of hedged requests.
+        internal const int RequestsPerHedge = 10;
+        internal const int MaxHedgeBurst = 10;
+
+        readonly ConcurrentDictionary<string, LatencyWindow> windows =
+            new ConcurrentDictionary<string, LatencyWindow>(StringComparer.Ordinal);
+
+        public void Record(string appId, string methodName, TimeSpan latency)
+        {
+            string key = GetKey(appId, methodName);
+            if (!this.windows.TryGetValue(key, out LatencyWindow? window))
+            {
+                // Method names can contain request-specific segments (e.g. "orders/42"),
+                // so stop tracking new methods once the limit has been reached.
+                if (this.windows.Count >= MaxTrackedMethods)
+                {
+                    return;
+                }
+
+                window = this.windows.GetOrAdd(key, _ => new LatencyWindow());
+            }
+
+            window.Add(latency.TotalMilliseconds);
+        }
+
+        public bool TryGetPercentile(string appId, string methodName, int percentile, out TimeSpan latency)
+        {
+            latency = TimeSpan.Zero;
+            if (!this.windows.TryGetValue(GetKey(appId, methodName), out LatencyWindow? window))
+            {
+                return false;
+            }
+
+            double? value = window.GetPercentile(Math.Min(Math.Max(percentile, 1), 100));
+            if (value == null)
+            {
+                return false;
+            }
+
+            latency = TimeSpan.FromMilliseconds(value.Value);
+            return true;
+        }
+
+        /// <summary>
+        /// Takes a hedged request from the budget of an app and method. Returns false if the budget is used up.
+        /// </summary>
+        public bool TryAcquireHedge(string appId, string methodName)
+        {
+            return this.windows.TryGetValue(GetKey(appId, methodName), out LatencyWindow? window) && window.TryAcquireHedge();
+        }
+
+        static string GetKey(string appId, string methodName) => $"{appId}/{methodName}";
+
+        /// <summary>
+        /// Fixed-size ring buffer of the most recent latency samples, in milliseconds.
+        /// </summary>
+        sealed class LatencyWindow
+        {
+            readonly double[] samples = new double[WindowSize];
+            int count;
+            int next;
+            int hedgeCredits;
+
+            public void Add(double sample)
+            {
+                lock (this.samples)
+                {
+                    this.samples[this.next] = sample;
+                    this.next = (this.next + 1) % WindowSize;
+                    this.count = Math.Min(this.count + 1, WindowSize);
+                    this.hedgeCredits = Math.Min(this.hedgeCredits + 1, RequestsPerHedge * MaxHedgeBurst);
+                }
+            }
+
+            public bool TryAcquireHedge()
+            {
+                lock (this.samples)
+                {
+                    if (this.hedgeCredits < RequestsPerHedge)
+                    {
+                        return false;
+                    }
+
+                    this.hedgeCredits -= RequestsPerHedge;
+                    return true;
+                }
+            }
+
+            public double? GetPercentile(int percentile)
+            {
+                double[] sorted;
+                lock (this.samples)
+                {
+                    if (this.count < MinSampleCount)
+                    {
+                        return null;
+                    }
+
+                    sorted = new double[this.count];
+                    Array.Copy(this.samples, sorted, this.count);
+                }
+
+                Array.Sort(sorted);
+                int index = (int)Math.Ceiling(percentile / 100.0 * sorted.Length) - 1;
+                return sorted[Math.Max(index, 0)];
+            }
+        }
+    }
+}
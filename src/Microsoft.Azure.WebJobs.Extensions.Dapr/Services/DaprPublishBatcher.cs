@@ -0,0 +1,353 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
+{
+    using System;
+    using System.Collections.Concurrent;
+    using System.Collections.Generic;
+    using System.Globalization;
+    using System.Net;
+    using System.Text.Json;
+    using System.Threading;
+    using System.Threading.Tasks;
+    using Microsoft.Azure.Functions.Extensions.Dapr.Core;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Exceptions;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
+    using Microsoft.Extensions.Logging;
+
+    /// <summary>
+    /// Host-wide buffer for events published in <see cref="DaprPublishDeliveryMode.AsyncBatched"/> mode.
+    /// Events are coalesced across function invocations by Dapr address, pub/sub and topic, and are
+    /// published with the Dapr bulk publish API when a batch is full or its linger time has elapsed.
+    /// </summary>
+    internal sealed class DaprPublishBatcher : IDisposable
+    {
+        internal const int DefaultCapacity = 10000;
+        internal const int MaxPublishAttempts = 3;
+        internal const int RetryBackoffMs = 200;
+
+        readonly ConcurrentDictionary<TopicKey, TopicBuffer> buffers = new ConcurrentDictionary<TopicKey, TopicBuffer>();
+        readonly PendingTasks pendingPublishes = new PendingTasks();
+        readonly SemaphoreSlim capacity;
+        readonly IDaprServiceClient daprClient;
+        readonly ILogger logger;
+
+        int disposed;
+
+        public DaprPublishBatcher(ILoggerFactory loggerFactory, IDaprServiceClient daprClient, INameResolver nameResolver)
+        {
+            this.logger = loggerFactory.CreateLogger(LoggingUtils.CreateDaprBindingCategory("PublishOutput"));
+            this.daprClient = daprClient;
+            this.Capacity = GetCapacity(nameResolver);
+            this.capacity = new SemaphoreSlim(this.Capacity, this.Capacity);
+        }
+
+        /// <summary>
+        /// Gets the maximum number of events that can be buffered or in flight at any time.
+        /// </summary>
+        public int Capacity { get; }
+
+        /// <summary>
+        /// Gets the number of topics that currently have a buffer.
+        /// </summary>
+        internal int BufferCount => this.buffers.Count;
+
+        internal static int GetCapacity(INameResolver resolver)
+        {
+            return int.TryParse(resolver.Resolve(Constants.EnvironmentKeys.PublishBufferCapacity), out int capacity) && capacity > 0
+                ? capacity
+                : DefaultCapacity;
+        }
+
+        public async Task EnqueueAsync(DaprPublishAttribute attr, DaprPubSubEvent item, CancellationToken cancellationToken)
+        {
+            if (this.disposed != 0)
+            {
+                throw new ObjectDisposedException(nameof(DaprPublishBatcher));
+            }
+
+            if (attr.OverflowPolicy == DaprPublishOverflowPolicy.Fail)
+            {
+                if (!this.capacity.Wait(0))
+                {
+                    throw new DaprException(
+                        (HttpStatusCode)429,
+                        ErrorCodes.ErrDaprPublishBufferFull,
+                        $"The publish buffer is full ({this.Capacity} events). The event for topic '{item.PubSubName}/{item.Topic}' was not published.");
+                }
+            }
+            else
+            {
+                await this.capacity.WaitAsync(cancellationToken);
+            }
+
+            // Events are batched per content type since every entry of a bulk publish request shares it.
+            JsonElement body = CloudEventUtils.GetPublishBody(item, out string contentType);
+
+            // Name and Topic cannot be null here - they are verified when the event is added to the collector.
+            var key = new TopicKey(attr.DaprAddress, item.PubSubName!, item.Topic!, contentType);
+
+            // An idle buffer removes itself, in which case the event goes to a new buffer for the topic.
+            while (true)
+            {
+                TopicBuffer buffer = this.buffers.GetOrAdd(key, k => new TopicBuffer(this, k));
+                if (buffer.TryAdd(body, attr.MaxBatchSize, attr.BatchLingerMs))
+                {
+                    break;
+                }
+            }
+        }
+
+        public void Dispose()
+        {
+            if (Interlocked.Exchange(ref this.disposed, 1) != 0)
+            {
+                return;
+            }
+
+            // Flush everything that is still buffered and give in-flight requests a chance to complete.
+            foreach (TopicBuffer buffer in this.buffers.Values)
+            {
+                List<JsonElement> batch = buffer.Close();
+                if (batch.Count > 0)
+                {
+                    this.StartPublish(buffer.Key, batch);
+                }
+            }
+
+            if (!this.pendingPublishes.Drain())
+            {
+                this.logger.LogWarning("Timed out after {Timeout} waiting for buffered pub/sub events to be published.", PendingTasks.DrainTimeout);
+            }
+        }
+
+        /// <summary>
+        /// Gets the events of the entries that failed to publish. Entry IDs are the indexes of the events in the request.
+        /// </summary>
+        static List<JsonElement> GetFailedEntries(List<JsonElement> sent, DaprBulkPublishException ex)
+        {
+            var failed = new List<JsonElement>(ex.FailedEntryIds.Count);
+            foreach (string entryId in ex.FailedEntryIds)
+            {
+                if (!int.TryParse(entryId, NumberStyles.None, CultureInfo.InvariantCulture, out int index) || index >= sent.Count)
+                {
+                    // Unknown entries - assume that nothing was published.
+                    return sent;
+                }
+
+                failed.Add(sent[index]);
+            }
+
+            return failed.Count > 0 ? failed : sent;
+        }
+
+        void StartPublish(TopicKey key, List<JsonElement> batch)
+        {
+            this.pendingPublishes.Track(this.PublishAsync(key, batch));
+        }
+
+        async Task PublishAsync(TopicKey key, List<JsonElement> batch)
+        {
+            // Only the failed entries of a partially failed request are sent again.
+            List<JsonElement> remaining = batch;
+            try
+            {
+                for (int attempt = 1; ; attempt++)
+                {
+                    try
+                    {
+                        await this.daprClient.BulkPublishEventAsync(key.DaprAddress, key.PubSubName, key.Topic, remaining, key.ContentType, CancellationToken.None);
+                        this.logger.LogDebug("Published a batch of {Count} events to {PubSubName}/{Topic}.", remaining.Count, key.PubSubName, key.Topic);
+                        return;
+                    }
+                    catch (Exception ex) when (attempt < MaxPublishAttempts && RetryUtils.IsTransientInBackground(ex))
+                    {
+                        if (ex is DaprBulkPublishException bulkPublishException)
+                        {
+                            remaining = GetFailedEntries(remaining, bulkPublishException);
+                        }
+
+                        TimeSpan delay = RetryUtils.GetBackoffDelay(RetryBackoffMs, attempt);
+                        this.logger.LogWarning(
+                            ex,
+                            "Failed to publish {Count} events to {PubSubName}/{Topic} on attempt {Attempt} of {MaxAttempts}. Retrying in {Delay} ms.",
+                            remaining.Count,
+                            key.PubSubName,
+                            key.Topic,
+                            attempt,
+                            MaxPublishAttempts,
+                            (int)delay.TotalMilliseconds);
+
+                        await Task.Delay(delay);
+                    }
+                }
+            }
+            catch (Exception ex)
+            {
+                int dropped = ex is DaprBulkPublishException bulkPublishException
+                    ? GetFailedEntries(remaining, bulkPublishException).Count
+                    : remaining.Count;
+
+                this.logger.LogError(
+                    ex,
+                    "Failed to publish {Dropped} of {Count} events to {PubSubName}/{Topic}. The events were dropped.",
+                    dropped,
+                    batch.Count,
+                    key.PubSubName,
+                    key.Topic);
+            }
+            finally
+            {
+                this.capacity.Release(batch.Count);
+            }
+        }
+
+        readonly struct TopicKey : IEquatable<TopicKey>
+        {
+            public TopicKey(string? daprAddress, string pubSubName, string topic, string contentType)
+            {
+                this.DaprAddress = daprAddress;
+                this.PubSubName = pubSubName;
+                this.Topic = topic;
+                this.ContentType = contentType;
+            }
+
+            public string? DaprAddress { get; }
+
+            public string PubSubName { get; }
+
+            public string Topic { get; }
+
+            public string ContentType { get; }
+
+            // pub/sub name and topic name are case-sensitive in dapr
+            public bool Equals(TopicKey other) =>
+                string.Equals(this.DaprAddress, other.DaprAddress, StringComparison.OrdinalIgnoreCase)
+                && string.Equals(this.PubSubName, other.PubSubName, StringComparison.Ordinal)
+                && string.Equals(this.Topic, other.Topic, StringComparison.Ordinal)
+                && string.Equals(this.ContentType, other.ContentType, StringComparison.Ordinal);
+
+            public override bool Equals(object? obj) => obj is TopicKey other && this.Equals(other);
+
+            public override int GetHashCode() => (this.DaprAddress?.ToLowerInvariant(), this.PubSubName, this.Topic, this.ContentType).GetHashCode();
+        }
+
+        /// <summary>
+        /// Pending events for a single topic. A batch is published as soon as it reaches the maximum
+        /// batch size, or when the linger timer armed by the first event of the batch fires.
+        /// Topics can be set per event, so a buffer removes itself from the batcher when its linger
+        /// timer finds it empty rather than holding on to a timer for the life of the host.
+        /// </summary>
+        sealed class TopicBuffer
+        {
+            readonly object syncRoot = new object();
+            readonly DaprPublishBatcher owner;
+            readonly Timer lingerTimer;
+
+            List<JsonElement> pending = new List<JsonElement>();
+            int lingerMs;
+            bool lingerTimerArmed;
+            bool closed;
+            bool removed;
+
+            public TopicBuffer(DaprPublishBatcher owner, TopicKey key)
+            {
+                this.owner = owner;
+                this.Key = key;
+                this.lingerTimer = new Timer(this.OnLingerElapsed, null, Timeout.Infinite, Timeout.Infinite);
+            }
+
+            public TopicKey Key { get; }
+
+            /// <summary>
+            /// Adds an event to the buffer. Returns false if the buffer has been removed from the batcher.
+            /// </summary>
+            public bool TryAdd(JsonElement payload, int maxBatchSize, int lingerMs)
+            {
+                List<JsonElement>? batch = null;
+                lock (this.syncRoot)
+                {
+                    if (this.removed)
+                    {
+                        return false;
+                    }
+
+                    this.pending.Add(payload);
+                    this.lingerMs = Math.Max(lingerMs, 0);
+                    if (this.closed || this.pending.Count >= Math.Max(maxBatchSize, 1))
+                    {
+                        batch = this.TakeAllLocked();
+                    }
+
+                    // The timer stays armed after a full batch is taken, so that the buffer is removed once idle.
+                    if (!this.lingerTimerArmed && !this.closed)
+                    {
+                        this.lingerTimer.Change(this.lingerMs, Timeout.Infinite);
+                        this.lingerTimerArmed = true;
+                    }
+                }
+
+                if (batch != null)
+                {
+                    this.owner.StartPublish(this.Key, batch);
+                }
+
+                return true;
+            }
+
+            /// <summary>
+            /// Stops the linger timer and returns the pending events. Events added afterwards are
+            /// published immediately.
+            /// </summary>
+            public List<JsonElement> Close()
+            {
+                lock (this.syncRoot)
+                {
+                    List<JsonElement> batch = this.TakeAllLocked();
+                    this.closed = true;
+                    this.lingerTimer.Dispose();
+                    return batch;
+                }
+            }
+
+            List<JsonElement> TakeAllLocked()
+            {
+                List<JsonElement> batch = this.pending;
+                this.pending = new List<JsonElement>();
+                return batch;
+            }
+
+            void OnLingerElapsed(object? state)
+            {
+                List<JsonElement> batch;
+                lock (this.syncRoot)
+                {
+                    this.lingerTimerArmed = false;
+                    if (this.closed || this.removed)
+                    {
+                        return;
+                    }
+
+                    batch = this.TakeAllLocked();
+                    if (batch.Count == 0)
+                    {
+                        // Nothing was added for a whole linger period. Events that race with the removal
+                        // see the removed flag and are added to a new buffer.
+                        this.removed = true;
+                        this.lingerTimer.Dispose();
+                        this.owner.buffers.TryRemove(this.Key, out _);
+                        return;
+                    }
+
+                    this.lingerTimer.Change(this.lingerMs, Timeout.Infinite);
+                    this.lingerTimerArmed = true;
+                }
+
+                this.owner.StartPublish(this.Key, batch);
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
 {
     using System;
     using System.Collections.Generic;
+    using System.Globalization;
     using System.IO;
     using System.Net;
     using System.Net.Http;
@@ -35,6 +36,7 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
         readonly ILogger invokeOutputLogger;
         readonly ILogger bindingOutputLogger;
         readonly ILogger publishOutputLogger;
+        readonly ILogger lockInputLogger;
 
         readonly string daprAddress;
         readonly IDaprClient daprClient;
@@ -54,6 +56,7 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
             this.invokeOutputLogger = loggerFactory.CreateLogger(LoggingUtils.CreateDaprBindingCategory("InvokeOutput"));
             this.bindingOutputLogger = loggerFactory.CreateLogger(LoggingUtils.CreateDaprBindingCategory("BindingOutput"));
             this.publishOutputLogger = loggerFactory.CreateLogger(LoggingUtils.CreateDaprBindingCategory("PublishOutput"));
+            this.lockInputLogger = loggerFactory.CreateLogger(LoggingUtils.CreateDaprBindingCategory("LockInput"));
             this.daprClient = daprClient;
             this.daprAddress = DaprServiceClient.GetDaprHttpAddress(this.logger, nameResolver);
         }
@@ -249,6 +252,85 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
             }
         }
 
+        /// <inheritdoc/>
+        public async Task PublishCloudEventAsync(
+            string? daprAddress,
+            string name,
+            string topicName,
+            JsonElement cloudEvent,
+            CancellationToken cancellationToken)
+        {
+            try
+            {
+                this.EnsureDaprAddress(ref daprAddress);
+
+                // https://docs.dapr.io/developing-applications/building-blocks/pubsub/pubsub-cloudevents/#publishing-your-own-cloudevent
+                var req = new HttpRequestMessage(HttpMethod.Post, $"{daprAddress}/v1.0/publish/{name}/{topicName}")
+                {
+                    Content = new StringContent(cloudEvent.GetRawText(), Encoding.UTF8, CloudEventUtils.CloudEventsContentType),
+                };
+
+                await this.daprClient.SendAsync(this.publishOutputLogger, req, cancellationToken);
+            }
+            catch (Exception ex)
+            {
+                if (ex is DaprException || ex is DaprSidecarNotPresentException)
+                {
+                    throw;
+                }
+
+                throw new DaprException(HttpStatusCode.InternalServerError, ErrorCodes.ErrDaprRequestFailed, "An error occurred while publishing event.", ex);
+            }
+        }
+
+        /// <inheritdoc/>
+        public async Task BulkPublishEventAsync(
+            string? daprAddress,
+            string name,
+            string topicName,
+            IReadOnlyList<JsonElement> payloads,
+            string contentType,
+            CancellationToken cancellationToken)
+        {
+            try
+            {
+                this.EnsureDaprAddress(ref daprAddress);
+
+                // https://docs.dapr.io/reference/api/pubsub_api/#publish-multiple-messages-to-a-given-topic
+                var entries = new List<object>(payloads.Count);
+                for (int i = 0; i < payloads.Count; i++)
+                {
+                    entries.Add(new
+                    {
+                        entryId = i.ToString(CultureInfo.InvariantCulture),
+                        @event = payloads[i],
+                        contentType,
+                    });
+                }
+
+                var stringContent = new StringContent(
+                    JsonSerializer.Serialize(entries, JsonUtils.DefaultSerializerOptions),
+                    Encoding.UTF8,
+                    "application/json");
+                string uri = $"{daprAddress}/v1.0-alpha1/publish/bulk/{name}/{topicName}";
+
+                await this.daprClient.PostAsync(this.publishOutputLogger, uri, stringContent, cancellationToken);
+            }
+            catch (JsonException ex)
+            {
+                throw new DaprException(HttpStatusCode.BadRequest, ErrorCodes.ErrDaprBadRequest, "Failed to serialize. Reason: " + ex.Message, ex);
+            }
+            catch (Exception ex)
+            {
+                if (ex is DaprException || ex is DaprSidecarNotPresentException)
+                {
+                    throw;
+                }
+
+                throw new DaprException(HttpStatusCode.InternalServerError, ErrorCodes.ErrDaprRequestFailed, "An error occurred while bulk publishing events.", ex);
+            }
+        }
+
         /// <inheritdoc/>
         public async Task<JsonDocument> GetSecretAsync(
             string? daprAddress,
@@ -297,6 +379,80 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
             }
         }
 
+        /// <inheritdoc/>
+        public async Task<bool> TryLockAsync(
+            string? daprAddress,
+            string lockStore,
+            string resourceId,
+            string lockOwner,
+            int expiryInSeconds,
+            CancellationToken cancellationToken)
+        {
+            try
+            {
+                this.EnsureDaprAddress(ref daprAddress);
+
+                // https://docs.dapr.io/reference/api/distributed-lock_api/
+                var stringContent = new StringContent(
+                    JsonSerializer.Serialize(new { resourceId, lockOwner, expiryInSeconds }, JsonUtils.DefaultSerializerOptions),
+                    Encoding.UTF8,
+                    "application/json");
+                string uri = $"{daprAddress}/v1.0-alpha1/lock/{Uri.EscapeDataString(lockStore)}";
+
+                var response = await this.daprClient.PostAsync(this.lockInputLogger, uri, stringContent, cancellationToken);
+
+                using JsonDocument result = JsonDocument.Parse(await response.Content.ReadAsStringAsync());
+                return result.RootElement.TryGetProperty("success", out JsonElement success)
+                    && success.ValueKind == JsonValueKind.True;
+            }
+            catch (Exception ex)
+            {
+                if (ex is DaprException || ex is DaprSidecarNotPresentException)
+                {
+                    throw;
+                }
+
+                throw new DaprException(HttpStatusCode.InternalServerError, ErrorCodes.ErrDaprRequestFailed, "An error occurred while acquiring lock.", ex);
+            }
+        }
+
+        /// <inheritdoc/>
+        public async Task<bool> UnlockAsync(
+            string? daprAddress,
+            string lockStore,
+            string resourceId,
+            string lockOwner,
+            CancellationToken cancellationToken)
+        {
+            try
+            {
+                this.EnsureDaprAddress(ref daprAddress);
+
+                var stringContent = new StringContent(
+                    JsonSerializer.Serialize(new { resourceId, lockOwner }, JsonUtils.DefaultSerializerOptions),
+                    Encoding.UTF8,
+                    "application/json");
+                string uri = $"{daprAddress}/v1.0-alpha1/unlock/{Uri.EscapeDataString(lockStore)}";
+
+                var response = await this.daprClient.PostAsync(this.lockInputLogger, uri, stringContent, cancellationToken);
+
+                // 0 = success, 1 = lock does not exist, 2 = lock belongs to others, 3 = internal error
+                using JsonDocument result = JsonDocument.Parse(await response.Content.ReadAsStringAsync());
+                return result.RootElement.TryGetProperty("status", out JsonElement status)
+                    && status.TryGetInt32(out int statusCode)
+                    && statusCode == 0;
+            }
+            catch (Exception ex)
+            {
+                if (ex is DaprException || ex is DaprSidecarNotPresentException)
+                {
+                    throw;
+                }
+
+                throw new DaprException(HttpStatusCode.InternalServerError, ErrorCodes.ErrDaprRequestFailed, "An error occurred while releasing lock.", ex);
+            }
+        }
+
         private void EnsureDaprAddress(ref string? daprAddress)
         {
             (daprAddress ??= this.daprAddress).TrimEnd('/');
@@ -7,6 +7,7 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
 {
     using System;
     using System.Collections.Generic;
+    using System.Linq;
     using System.Text.Json;
     using System.Threading;
     using System.Threading.Tasks;
@@ -24,8 +25,9 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
     internal sealed class DaprServiceListener : IDisposable, IDaprServiceListener
     {
         private const string MetadataApiUrl = "";
+        static readonly DaprTopicSubscriptionComparer TopicComparer = new DaprTopicSubscriptionComparer();
         readonly HashSet<DaprListenerBase> listeners = new HashSet<DaprListenerBase>();
-        readonly HashSet<DaprTopicSubscription> topics = new HashSet<DaprTopicSubscription>(new DaprTopicSubscriptionComparer());
+        readonly HashSet<DaprTopicSubscription> topics = new HashSet<DaprTopicSubscription>(TopicComparer);
         readonly string appAddress;
         readonly string daprAddress;
         readonly bool shouldCheckSidecarMetadataOnHostStartup;
@@ -127,15 +129,83 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
 
         public void RegisterTopic(DaprTopicSubscription topic)
         {
+            // Functions sharing a route are registered once. That is only harmless when none of them has a
+            // routing rule, otherwise the rule of every function but the first would be silently dropped.
+            DaprTopicSubscription? existing = this.topics.FirstOrDefault(t => TopicComparer.Equals(t, topic));
+            if (existing != null && (existing.Match != null || topic.Match != null))
+            {
+                throw new InvalidOperationException(
+                    $"Multiple functions subscribed to {topic.PubSubName}/{topic.Topic} use the route '{topic.Route}' and at least one of them has a routing rule. " +
+                    "Give each function with a Match expression its own Route.");
+            }
+
             if (this.topics.Add(topic))
             {
-                this.logger.LogInformation("Registered topic: {PubSubName}/{TopicName} -> {Route}", topic.PubSubName, topic.Topic, topic.Route);
+                if (topic.Match == null)
+                {
+                    this.logger.LogInformation("Registered topic: {PubSubName}/{TopicName} -> {Route}", topic.PubSubName, topic.Topic, topic.Route);
+                }
+                else
+                {
+                    this.logger.LogInformation(
+                        "Registered topic: {PubSubName}/{TopicName} -> {Route} when {Match} (priority {Priority})",
+                        topic.PubSubName,
+                        topic.Topic,
+                        topic.Route,
+                        topic.Match,
+                        topic.Priority);
+                }
             }
         }
 
+        /// <summary>
+        /// Gets the topic subscriptions to return to Dapr. Dapr allows a single subscription per pub/sub and topic,
+        /// so when any function of a topic declares a routing rule, the functions of that topic are merged into
+        /// one subscription with a rule per function and the function without a rule, if any, as the default route.
+        /// </summary>
+        internal IReadOnlyList<DaprTopicSubscription> GetTopicSubscriptions()
+        {
+            var subscriptions = new List<DaprTopicSubscription>();
+            foreach (var group in this.topics.GroupBy(t => (t.PubSubName, t.Topic)))
+            {
+                if (group.All(t => t.Match == null))
+                {
+                    subscriptions.AddRange(group);
+                    continue;
+                }
+
+                var rules = group
+                    .Where(t => t.Match != null)
+                    .OrderBy(t => t.Priority)
+                    .ThenBy(t => t.Route, StringComparer.OrdinalIgnoreCase)
+                    .Select(t => new DaprTopicRule(t.Match!, t.Route))
+                    .ToList();
+
+                var defaultRoutes = group.Where(t => t.Match == null).Select(t => t.Route).ToList();
+                if (defaultRoutes.Count > 1)
+                {
+                    this.logger.LogWarning(
+                        "Multiple functions without a routing rule are subscribed to {PubSubName}/{TopicName}. Only {Route} receives the events that match no rule.",
+                        group.Key.PubSubName,
+                        group.Key.Topic,
+                        defaultRoutes[0]);
+                }
+
+                string? defaultRoute = defaultRoutes.FirstOrDefault();
+
+                // An empty route is ignored by Dapr, in which case events that match no rule are dropped.
+                subscriptions.Add(new DaprTopicSubscription(group.Key.PubSubName, group.Key.Topic, defaultRoute ?? string.Empty)
+                {
+                    Routes = new DaprTopicRoutes(rules, defaultRoute),
+                });
+            }
+
+            return subscriptions;
+        }
+
         Task GetTopicsAsync(HttpContext context)
         {
-            string topicListJson = JsonSerializer.Serialize(this.topics, JsonUtils.DefaultSerializerOptions);
+            string topicListJson = JsonSerializer.Serialize(this.GetTopicSubscriptions(), JsonUtils.DefaultSerializerOptions);
             context.Response.ContentType = "application/json";
             return context.Response.WriteAsync(topicListJson);
         }
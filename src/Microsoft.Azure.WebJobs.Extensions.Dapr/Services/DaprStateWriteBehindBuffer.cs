@@ -0,0 +1,422 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
+{
+    using System;
+    using System.Collections.Concurrent;
+    using System.Collections.Generic;
+    using System.Linq;
+    using System.Net;
+    using System.Threading;
+    using System.Threading.Tasks;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Exceptions;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
+    using Microsoft.Extensions.Logging;
+
+    /// <summary>
+    /// Host-wide buffer for state written in <see cref="DaprStateWriteMode.WriteBehind"/> mode.
+    /// Writes are buffered per Dapr address, state store and key, superseded values are dropped
+    /// (last write wins), and the remaining values are saved in batches when the flush interval
+    /// has elapsed or enough keys are buffered.
+    /// </summary>
+    internal sealed class DaprStateWriteBehindBuffer : IDisposable
+    {
+        internal const int DefaultCapacity = 10000;
+        internal const int MaxSaveAttempts = 5;
+        internal const int RetryBackoffMs = 1000;
+
+        readonly ConcurrentDictionary<(string? DaprAddress, string StateStore), StoreBuffer> buffers =
+            new ConcurrentDictionary<(string? DaprAddress, string StateStore), StoreBuffer>();
+
+        readonly PendingTasks pendingFlushes = new PendingTasks();
+        readonly SemaphoreSlim capacity;
+        readonly IDaprServiceClient daprClient;
+        readonly ILogger logger;
+
+        int disposed;
+
+        public DaprStateWriteBehindBuffer(ILoggerFactory loggerFactory, IDaprServiceClient daprClient, INameResolver nameResolver)
+        {
+            this.logger = loggerFactory.CreateLogger(LoggingUtils.CreateDaprBindingCategory("StateOutput"));
+            this.daprClient = daprClient;
+            this.Capacity = GetCapacity(nameResolver);
+            this.capacity = new SemaphoreSlim(this.Capacity, this.Capacity);
+        }
+
+        /// <summary>
+        /// Gets the maximum number of keys that can be buffered or being saved at any time.
+        /// </summary>
+        public int Capacity { get; }
+
+        internal static int GetCapacity(INameResolver resolver)
+        {
+            return int.TryParse(resolver.Resolve(Constants.EnvironmentKeys.StateBufferCapacity), out int capacity) && capacity > 0
+                ? capacity
+                : DefaultCapacity;
+        }
+
+        public async Task AddAsync(DaprStateAttribute attr, DaprStateRecord record, CancellationToken cancellationToken)
+        {
+            if (this.disposed != 0)
+            {
+                throw new ObjectDisposedException(nameof(DaprStateWriteBehindBuffer));
+            }
+
+            string stateStore = attr.StateStore ?? throw new ArgumentException("A non-null state store name must be specified.");
+            StoreBuffer buffer = this.buffers.GetOrAdd(
+                (attr.DaprAddress, stateStore),
+                key => new StoreBuffer(this, key.DaprAddress, key.StateStore));
+
+            // Overwriting the buffered value of a key does not take up more space.
+            if (buffer.TryReplace(record))
+            {
+                return;
+            }
+
+            if (attr.OverflowPolicy == DaprStateOverflowPolicy.Fail)
+            {
+                if (!this.capacity.Wait(0))
+                {
+                    throw new DaprException(
+                        (HttpStatusCode)429,
+                        ErrorCodes.ErrDaprStateBufferFull,
+                        $"The write-behind buffer is full ({this.Capacity} keys). The value of key '{record.Key}' in state store '{stateStore}' was not saved.");
+                }
+            }
+            else
+            {
+                await this.capacity.WaitAsync(cancellationToken);
+            }
+
+            buffer.Add(record, attr.MaxBatchSize, attr.FlushIntervalMs);
+        }
+
+        /// <summary>
+        /// Drops the buffered value of a key, if any, and waits for any save that is in progress for
+        /// the same state store. Used before a newer value of the key is written through.
+        /// </summary>
+        public Task DiscardAsync(string? daprAddress, string? stateStore, string key)
+        {
+            if (stateStore != null && this.buffers.TryGetValue((daprAddress, stateStore), out StoreBuffer? buffer))
+            {
+                return buffer.RemoveAsync(key);
+            }
+
+            return Task.CompletedTask;
+        }
+
+        public void Dispose()
+        {
+            if (Interlocked.Exchange(ref this.disposed, 1) != 0)
+            {
+                return;
+            }
+
+            // Save everything that is still buffered before the host shuts down.
+            foreach (StoreBuffer buffer in this.buffers.Values)
+            {
+                buffer.Close();
+                this.StartFlush(buffer);
+            }
+
+            if (!this.pendingFlushes.Drain())
+            {
+                this.logger.LogWarning("Timed out after {Timeout} waiting for buffered state to be saved.", PendingTasks.DrainTimeout);
+            }
+        }
+
+        void StartFlush(StoreBuffer buffer)
+        {
+            this.pendingFlushes.Track(buffer.FlushAsync());
+        }
+
+        /// <summary>
+        /// Buffered values for a single state store. Flushes are serialized so that an older value
+        /// of a key can never overwrite a newer one.
+        /// </summary>
+        sealed class StoreBuffer
+        {
+            readonly object syncRoot = new object();
+            readonly SemaphoreSlim flushLock = new SemaphoreSlim(1, 1);
+            readonly DaprStateWriteBehindBuffer owner;
+            readonly string? daprAddress;
+            readonly string stateStore;
+            readonly Timer flushTimer;
+
+            Dictionary<string, DaprStateRecord> pending = new Dictionary<string, DaprStateRecord>(StringComparer.Ordinal);
+            int flushIntervalMs;
+            bool flushTimerArmed;
+            bool retryPending;
+            bool closed;
+
+            // Consecutive failed attempts to save the buffered values. Only accessed while holding the flush lock.
+            int failedAttempts;
+
+            public StoreBuffer(DaprStateWriteBehindBuffer owner, string? daprAddress, string stateStore)
+            {
+                this.owner = owner;
+                this.daprAddress = daprAddress;
+                this.stateStore = stateStore;
+                this.flushTimer = new Timer(_ => this.owner.StartFlush(this), null, Timeout.Infinite, Timeout.Infinite);
+            }
+
+            public bool TryReplace(DaprStateRecord record)
+            {
+                lock (this.syncRoot)
+                {
+                    // Key cannot be null here - it is verified when the record is added to the collector.
+                    if (!this.pending.ContainsKey(record.Key!))
+                    {
+                        return false;
+                    }
+
+                    this.pending[record.Key!] = record;
+                    return true;
+                }
+            }
+
+            /// <summary>
+            /// Adds a record for which space has been reserved in the buffer.
+            /// </summary>
+            public void Add(DaprStateRecord record, int maxBatchSize, int flushIntervalMs)
+            {
+                bool replaced;
+                bool flushNow;
+                lock (this.syncRoot)
+                {
+                    replaced = this.pending.ContainsKey(record.Key!);
+                    this.pending[record.Key!] = record;
+                    this.flushIntervalMs = Math.Max(flushIntervalMs, 0);
+
+                    // While a failed save waits for its retry, saving sooner would only add load to a failing store.
+                    flushNow = this.closed || (!this.retryPending && this.pending.Count >= Math.Max(maxBatchSize, 1));
+                    if (!flushNow)
+                    {
+                        this.ArmFlushTimerLocked(this.flushIntervalMs);
+                    }
+                }
+
+                if (replaced)
+                {
+                    // The key was added concurrently, so the reserved space is not needed.
+                    this.owner.capacity.Release();
+                }
+
+                if (flushNow)
+                {
+                    this.owner.StartFlush(this);
+                }
+            }
+
+            public async Task RemoveAsync(string key)
+            {
+                // Holding the flush lock guarantees that an older value is not saved after the caller's write.
+                await this.flushLock.WaitAsync();
+                try
+                {
+                    bool removed;
+                    lock (this.syncRoot)
+                    {
+                        removed = this.pending.Remove(key);
+                    }
+
+                    if (removed)
+                    {
+                        this.owner.capacity.Release();
+                    }
+                }
+                finally
+                {
+                    this.flushLock.Release();
+                }
+            }
+
+            /// <summary>
+            /// Stops the flush timer. Values added afterwards are saved immediately.
+            /// </summary>
+            public void Close()
+            {
+                lock (this.syncRoot)
+                {
+                    this.closed = true;
+                    this.flushTimerArmed = false;
+                    this.flushTimer.Dispose();
+                }
+            }
+
+            public async Task FlushAsync()
+            {
+                await this.flushLock.WaitAsync();
+                try
+                {
+                    // The batch is taken after the flush lock is acquired so that batches are saved in order.
+                    List<DaprStateRecord> batch;
+                    lock (this.syncRoot)
+                    {
+                        batch = this.pending.Values.ToList();
+                        this.pending = new Dictionary<string, DaprStateRecord>(StringComparer.Ordinal);
+                        this.retryPending = false;
+                        if (this.flushTimerArmed)
+                        {
+                            this.flushTimer.Change(Timeout.Infinite, Timeout.Infinite);
+                            this.flushTimerArmed = false;
+                        }
+                    }
+
+                    if (batch.Count == 0)
+                    {
+                        return;
+                    }
+
+                    try
+                    {
+                        await this.SaveAsync(batch);
+                        this.failedAttempts = 0;
+                        this.owner.logger.LogDebug("Saved {Count} buffered keys to state store {StateStore}.", batch.Count, this.stateStore);
+                    }
+                    catch (Exception ex) when (RetryUtils.IsTransientInBackground(ex))
+                    {
+                        this.Requeue(batch, ex);
+                    }
+                    catch (Exception ex)
+                    {
+                        await this.SaveIndividuallyAsync(batch, ex);
+                    }
+                }
+                finally
+                {
+                    this.flushLock.Release();
+                }
+            }
+
+            async Task SaveAsync(List<DaprStateRecord> records)
+            {
+                await this.owner.daprClient.SaveStateAsync(this.daprAddress, this.stateStore, records, CancellationToken.None);
+                this.owner.capacity.Release(records.Count);
+            }
+
+            /// <summary>
+            /// Saves the records of a batch that failed permanently one by one, so that a single invalid
+            /// record does not prevent the other keys of the state store from being saved.
+            /// </summary>
+            async Task SaveIndividuallyAsync(List<DaprStateRecord> batch, Exception batchError)
+            {
+                if (batch.Count == 1)
+                {
+                    this.failedAttempts = 0;
+                    this.Drop(batch, batchError);
+                    return;
+                }
+
+                var retry = new List<DaprStateRecord>();
+                Exception? retryError = null;
+                foreach (DaprStateRecord record in batch)
+                {
+                    var single = new List<DaprStateRecord>(1) { record };
+                    try
+                    {
+                        await this.SaveAsync(single);
+                    }
+                    catch (Exception ex) when (RetryUtils.IsTransientInBackground(ex))
+                    {
+                        retry.Add(record);
+                        retryError ??= ex;
+                    }
+                    catch (Exception ex)
+                    {
+                        this.Drop(single, ex);
+                    }
+                }
+
+                if (retry.Count > 0)
+                {
+                    this.Requeue(retry, retryError!);
+                }
+                else
+                {
+                    this.failedAttempts = 0;
+                }
+            }
+
+            void Requeue(List<DaprStateRecord> batch, Exception ex)
+            {
+                this.failedAttempts++;
+
+                int superseded = 0;
+                TimeSpan delay = TimeSpan.Zero;
+                bool retry;
+                lock (this.syncRoot)
+                {
+                    retry = !this.closed && this.failedAttempts < MaxSaveAttempts;
+                    if (retry)
+                    {
+                        // Keep the failed values for the retry, unless they have been superseded in the meantime.
+                        foreach (DaprStateRecord record in batch)
+                        {
+                            if (this.pending.ContainsKey(record.Key!))
+                            {
+                                superseded++;
+                            }
+                            else
+                            {
+                                this.pending[record.Key!] = record;
+                            }
+                        }
+
+                        // The retry replaces any flush that is already scheduled, and size-triggered saves wait for it.
+                        delay = TimeSpan.FromMilliseconds(Math.Max(
+                            RetryUtils.GetBackoffDelay(RetryBackoffMs, this.failedAttempts).TotalMilliseconds,
+                            this.flushIntervalMs));
+                        this.flushTimer.Change(delay, Timeout.InfiniteTimeSpan);
+                        this.flushTimerArmed = true;
+                        this.retryPending = true;
+                    }
+                }
+
+                if (!retry)
+                {
+                    this.failedAttempts = 0;
+                    this.Drop(batch, ex);
+                    return;
+                }
+
+                if (superseded > 0)
+                {
+                    this.owner.capacity.Release(superseded);
+                }
+
+                this.owner.logger.LogWarning(
+                    ex,
+                    "Failed to save {Count} buffered keys to state store {StateStore} on attempt {Attempt} of {MaxAttempts}. Retrying in {Delay} ms.",
+                    batch.Count,
+                    this.stateStore,
+                    this.failedAttempts,
+                    MaxSaveAttempts,
+                    (int)delay.TotalMilliseconds);
+            }
+
+            void Drop(List<DaprStateRecord> records, Exception ex)
+            {
+                this.owner.capacity.Release(records.Count);
+                this.owner.logger.LogError(
+                    ex,
+                    "Failed to save {Count} buffered keys to state store {StateStore}. The values of keys {Keys} were lost.",
+                    records.Count,
+                    this.stateStore,
+                    string.Join(", ", records.Select(r => r.Key)));
+            }
+
+            void ArmFlushTimerLocked(int dueTimeMs)
+            {
+                if (!this.flushTimerArmed && !this.closed)
+                {
+                    this.flushTimer.Change(dueTimeMs, Timeout.Infinite);
+                    this.flushTimerArmed = true;
+                }
+            }
+        }
+    }
+}
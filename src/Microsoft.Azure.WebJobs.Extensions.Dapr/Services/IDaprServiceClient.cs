@@ -90,6 +90,40 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
             JsonElement? payload,
             CancellationToken cancellationToken);
 
+        /// <summary>
+        /// Publish an event that is already wrapped in a Cloud Event envelope to Dapr pub/sub.
+        /// </summary>
+        /// <param name="daprAddress">Dapr address.</param>
+        /// <param name="name">Name.</param>
+        /// <param name="topicName">Topic name.</param>
+        /// <param name="cloudEvent">Cloud Event.</param>
+        /// <param name="cancellationToken">Cancellation token.</param>
+        /// <returns>A <see cref="Task"/> representing the result of the asynchronous operation.</returns>
+        Task PublishCloudEventAsync(
+            string? daprAddress,
+            string name,
+            string topicName,
+            JsonElement cloudEvent,
+            CancellationToken cancellationToken);
+
+        /// <summary>
+        /// Publish a batch of events to Dapr pub/sub using the bulk publish API.
+        /// </summary>
+        /// <param name="daprAddress">Dapr address.</param>
+        /// <param name="name">Name.</param>
+        /// <param name="topicName">Topic name.</param>
+        /// <param name="payloads">Payloads.</param>
+        /// <param name="contentType">Content type of each payload.</param>
+        /// <param name="cancellationToken">Cancellation token.</param>
+        /// <returns>A <see cref="Task"/> representing the result of the asynchronous operation.</returns>
+        Task BulkPublishEventAsync(
+            string? daprAddress,
+            string name,
+            string topicName,
+            IReadOnlyList<JsonElement> payloads,
+            string contentType,
+            CancellationToken cancellationToken);
+
         /// <summary>
         /// Get secret from Dapr secret store.
         /// </summary>
@@ -105,5 +139,39 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Services
             string? key,
             string? metadata,
             CancellationToken cancellationToken);
+
+        /// <summary>
+        /// Try to acquire a lock from a Dapr lock store.
+        /// </summary>
+        /// <param name="daprAddress">Dapr address.</param>
+        /// <param name="lockStore">Lock store name.</param>
+        /// <param name="resourceId">ID of the resource to lock.</param>
+        /// <param name="lockOwner">Owner of the lock.</param>
+        /// <param name="expiryInSeconds">Number of seconds after which the lock expires.</param>
+        /// <param name="cancellationToken">Cancellation token.</param>
+        /// <returns>A <see cref="Task{TResult}"/> whose result is <c>true</c> if the lock was acquired.</returns>
+        Task<bool> TryLockAsync(
+            string? daprAddress,
+            string lockStore,
+            string resourceId,
+            string lockOwner,
+            int expiryInSeconds,
+            CancellationToken cancellationToken);
+
+        /// <summary>
+        /// Release a lock held in a Dapr lock store.
+        /// </summary>
+        /// <param name="daprAddress">Dapr address.</param>
+        /// <param name="lockStore">Lock store name.</param>
+        /// <param name="resourceId">ID of the locked resource.</param>
+        /// <param name="lockOwner">Owner of the lock.</param>
+        /// <param name="cancellationToken">Cancellation token.</param>
+        /// <returns>A <see cref="Task{TResult}"/> whose result is <c>true</c> if the lock was released, or <c>false</c> if it has expired or belongs to another owner.</returns>
+        Task<bool> UnlockAsync(
+            string? daprAddress,
+            string lockStore,
+            string resourceId,
+            string lockOwner,
+            CancellationToken cancellationToken);
     }
 }
\ No newline at end of file
@@ -43,5 +43,26 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
         /// Gets or sets the route for the trigger. If unspecified the topic name will be used.
         /// </summary>
         public string? Route { get; set; }
+
+        /// <summary>
+        /// Gets or sets a CEL expression that events must match to trigger the function, for example
+        /// <c>event.type == "order.created"</c>. Events are filtered by the Dapr sidecar, so events that
+        /// do not match never reach the function. If unspecified, the function receives the events of
+        /// the topic that match no other function's expression.
+        /// </summary>
+        public string? Match { get; set; }
+
+        /// <summary>
+        /// Gets or sets the order in which the <see cref="Match"/> expressions of the functions subscribed to
+        /// the same topic are evaluated. Expressions with a lower value are evaluated first. Default is 0.
+        /// </summary>
+        public int Priority { get; set; }
+
+        /// <summary>
+        /// Gets or sets a value indicating whether binary events, for example Avro or Protobuf payloads, are
+        /// unwrapped when binding to <c>byte[]</c>. When set, a Cloud Event carrying its payload in
+        /// <c>data_base64</c> is replaced by the decoded payload. Default is false, which binds the raw request body.
+        /// </summary>
+        public bool DecodeBinaryData { get; set; }
     }
 }
\ No newline at end of file
@@ -52,9 +52,20 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
 
             string topic = TriggerHelper.ResolveTriggerName(parameter, this.nameResolver, attribute.Topic);
 
+            // Java annotations cannot have null defaults, so an empty expression means no routing rule.
+            string? match = null;
+            if (!string.IsNullOrEmpty(attribute.Match) && !this.nameResolver.TryResolveWholeString(attribute.Match, out match))
+            {
+                match = attribute.Match;
+            }
+
             if (attribute.Route is null || !this.nameResolver.TryResolveWholeString(attribute.Route, out var route))
             {
-                route = attribute.Route ?? topic;
+                // Each routing rule needs a route of its own, so functions with a rule default to a route
+                // named after the function rather than the topic shared with the other functions.
+                route = attribute.Route ?? (match == null
+                    ? topic
+                    : topic + "/" + TriggerHelper.ResolveTriggerName(parameter, this.nameResolver, null));
             }
 
             if (!route.StartsWith("/"))
@@ -62,8 +73,14 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
                 route = "/" + route;
             }
 
+            var subscription = new DaprTopicSubscription(pubSubName, topic, route)
+            {
+                Match = match,
+                Priority = attribute.Priority,
+            };
+
             return Task.FromResult<ITriggerBinding?>(
-                new DaprTopicTriggerBinding(this.logger, this.serviceListener, pubSubName, topic, route, parameter));
+                new DaprTopicTriggerBinding(this.logger, this.serviceListener, subscription, attribute.DecodeBinaryData, parameter));
         }
 
         class DaprTopicTriggerBinding : DaprTriggerBindingBase
@@ -72,29 +89,26 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
 
             readonly ILogger logger;
             readonly IDaprServiceListener serviceListener;
-            readonly string pubSubName;
-            readonly string topic;
-            readonly string route;
+            readonly DaprTopicSubscription subscription;
+            readonly bool decodeBinaryData;
 
             public DaprTopicTriggerBinding(
                 ILogger logger,
                 IDaprServiceListener serviceListener,
-                string pubSubName,
-                string topic,
-                string route,
+                DaprTopicSubscription subscription,
+                bool decodeBinaryData,
                 ParameterInfo parameter)
                 : base(serviceListener, parameter)
             {
                 this.logger = logger;
                 this.serviceListener = serviceListener ?? throw new ArgumentNullException(nameof(serviceListener));
-                this.pubSubName = pubSubName ?? throw new ArgumentNullException(nameof(pubSubName));
-                this.topic = topic ?? throw new ArgumentNullException(nameof(topic));
-                this.route = route ?? throw new ArgumentNullException(nameof(route));
+                this.subscription = subscription ?? throw new ArgumentNullException(nameof(subscription));
+                this.decodeBinaryData = decodeBinaryData;
             }
 
             protected override DaprListenerBase OnCreateListener(ITriggeredFunctionExecutor executor)
             {
-                return new DaprTopicListener(this.logger, this.serviceListener, executor, new DaprTopicSubscription(this.pubSubName, this.topic, this.route));
+                return new DaprTopicListener(this.logger, this.serviceListener, executor, this.subscription);
             }
 
             protected override object ConvertFromJson(JsonElement jsonElement, Type destinationType)
@@ -118,6 +132,50 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
                 return base.ConvertFromJson(jsonElement, destinationType);
             }
 
+            protected override byte[] ConvertFromBytes(byte[] bytes)
+            {
+                // Binary events, e.g. Avro or Protobuf payloads, are delivered as a Cloud Event with the
+                // payload in "data_base64". Hand over the decoded payload rather than the envelope.
+                // https://github.com/cloudevents/spec/blob/v1.0/json-format.md#31-handling-of-data
+                if (!this.decodeBinaryData)
+                {
+                    return bytes;
+                }
+
+                int start = StartOfContent(bytes);
+                if (start < bytes.Length && bytes[start] == (byte)'{')
+                {
+                    try
+                    {
+                        using JsonDocument document = JsonDocument.Parse(bytes.AsMemory(start));
+                        if (document.RootElement.TryGetProperty("data_base64", out JsonElement data)
+                            && data.ValueKind == JsonValueKind.String
+                            && data.TryGetBytesFromBase64(out byte[]? payload))
+                        {
+                            return payload!;
+                        }
+                    }
+                    catch (JsonException)
+                    {
+                        // Not a Cloud Event - fall through and return the body as-is.
+                    }
+                }
+
+                return bytes;
+            }
+
+            static int StartOfContent(byte[] bytes)
+            {
+                // Skip a UTF-8 byte order mark and any JSON whitespace ahead of the first token.
+                int i = bytes.Length >= 3 && bytes[0] == 0xEF && bytes[1] == 0xBB && bytes[2] == 0xBF ? 3 : 0;
+                while (i < bytes.Length && (bytes[i] == ' ' || bytes[i] == '\t' || bytes[i] == '\r' || bytes[i] == '\n'))
+                {
+                    i++;
+                }
+
+                return i;
+            }
+
             sealed class DaprTopicListener : DaprListenerBase
             {
                 readonly ITriggeredFunctionExecutor executor;
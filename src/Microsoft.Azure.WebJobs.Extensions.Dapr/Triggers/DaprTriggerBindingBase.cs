@@ -82,7 +82,7 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
                 using (inputStream)
                 {
                     await inputStream.CopyToAsync(buffer);
-                    convertedValue = buffer.ToArray();
+                    convertedValue = this.ConvertFromBytes(buffer.ToArray());
                 }
             }
             else
@@ -126,6 +126,12 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr
             };
         }
 
+        protected virtual byte[] ConvertFromBytes(byte[] bytes)
+        {
+            // Give them the raw request body by default
+            return bytes;
+        }
+
         protected virtual object ConvertFromJson(JsonElement jsonElement, Type destinationType)
         {
             // Do a direct conversion by default
@@ -0,0 +1,81 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Utils
+{
+    using System;
+    using System.Collections.Generic;
+    using System.Text.Json;
+    using Microsoft.Azure.Functions.Extensions.Dapr.Core;
+    using Microsoft.Azure.Functions.Extensions.Dapr.Core.Utils;
+
+    internal static class CloudEventUtils
+    {
+        public const string JsonContentType = "application/json";
+        public const string CloudEventsContentType = "application/cloudevents+json";
+
+        const string EventSource = "azure-functions-dapr-extension";
+        const string EventType = "com.dapr.event.sent";
+
+        public static bool IsJsonContentType(string? contentType)
+        {
+            if (string.IsNullOrEmpty(contentType))
+            {
+                return true;
+            }
+
+            string mediaType = contentType!.Split(';')[0].Trim();
+            return mediaType.Equals(JsonContentType, StringComparison.OrdinalIgnoreCase)
+                || mediaType.EndsWith("+json", StringComparison.OrdinalIgnoreCase);
+        }
+
+        public static bool IsBase64String(JsonElement payload)
+        {
+            return payload.ValueKind == JsonValueKind.String && payload.TryGetBytesFromBase64(out _);
+        }
+
+        /// <summary>
+        /// Gets the body used to publish an event and its content type. Events without a content type or data schema
+        /// are published as plain JSON and wrapped in a Cloud Event by Dapr. Other events are published as a Cloud Event
+        /// carrying the <c>datacontenttype</c> and <c>dataschema</c>, with binary payloads in <c>data_base64</c>.
+        /// </summary>
+        public static JsonElement GetPublishBody(DaprPubSubEvent item, out string contentType)
+        {
+            if (item.ContentType == null && item.DataSchema == null)
+            {
+                contentType = JsonContentType;
+                return item.Payload;
+            }
+
+            // https://docs.dapr.io/developing-applications/building-blocks/pubsub/pubsub-cloudevents/#publishing-your-own-cloudevent
+            var cloudEvent = new Dictionary<string, object?>()
+            {
+                ["specversion"] = "1.0",
+                ["id"] = Guid.NewGuid().ToString(),
+                ["source"] = EventSource,
+                ["type"] = EventType,
+                ["datacontenttype"] = item.ContentType ?? JsonContentType,
+            };
+
+            if (item.DataSchema != null)
+            {
+                cloudEvent["dataschema"] = item.DataSchema;
+            }
+
+            if (IsJsonContentType(item.ContentType))
+            {
+                cloudEvent["data"] = item.Payload;
+            }
+            else
+            {
+                // The payload has been verified to be a base64 string when the event was added to the collector.
+                cloudEvent["data_base64"] = item.Payload.GetString();
+            }
+
+            contentType = CloudEventsContentType;
+            return JsonDocument.Parse(JsonSerializer.Serialize(cloudEvent, JsonUtils.DefaultSerializerOptions)).RootElement;
+        }
+    }
+}
@@ -43,5 +43,25 @@ namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Utils
         /// No Content.
         /// </summary>
         public const string ErrNoContent = "ERR_NO_CONTENT";
+
+        /// <summary>
+        /// Dapr request timed out.
+        /// </summary>
+        public const string ErrDaprRequestTimeout = "ERR_DAPR_REQUEST_TIMEOUT";
+
+        /// <summary>
+        /// The host-wide publish buffer is full.
+        /// </summary>
+        public const string ErrDaprPublishBufferFull = "ERR_DAPR_PUBLISH_BUFFER_FULL";
+
+        /// <summary>
+        /// The host-wide state write-behind buffer is full.
+        /// </summary>
+        public const string ErrDaprStateBufferFull = "ERR_DAPR_STATE_BUFFER_FULL";
+
+        /// <summary>
+        /// The distributed lock is held by another owner.
+        /// </summary>
+        public const string ErrDaprLockNotAcquired = "ERR_DAPR_LOCK_NOT_ACQUIRED";
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Utils
+{
+    using System;
+    using System.Collections.Concurrent;
+    using System.Linq;
+    using System.Threading;
+    using System.Threading.Tasks;
+
+    /// <summary>
+    /// Background tasks that must be given a chance to complete before the host shuts down,
+    /// such as buffered writes that are being sent to the Dapr sidecar.
+    /// </summary>
+    internal sealed class PendingTasks
+    {
+        public static readonly TimeSpan DrainTimeout = TimeSpan.FromSeconds(30);
+
+        readonly ConcurrentDictionary<Task, bool> tasks = new ConcurrentDictionary<Task, bool>();
+
+        public void Track(Task task)
+        {
+            // The continuation is registered after the task is tracked, so it is always removed.
+            this.tasks.TryAdd(task, true);
+            task.ContinueWith(
+                t => this.tasks.TryRemove(t, out bool _),
+                CancellationToken.None,
+                TaskContinuationOptions.ExecuteSynchronously,
+                TaskScheduler.Default);
+        }
+
+        /// <summary>
+        /// Waits up to <see cref="DrainTimeout"/> for the tracked tasks to complete.
+        /// </summary>
+        /// <returns><c>false</c> if the tasks did not complete in time.</returns>
+        public bool Drain()
+        {
+            Task[] pending = this.tasks.Keys.ToArray();
+
+            // WaitAny does not throw if a task failed; failures are logged by the tasks themselves.
+            return pending.Length == 0 || Task.WaitAny(new[] { Task.WhenAll(pending) }, DrainTimeout) == 0;
+        }
+    }
+}
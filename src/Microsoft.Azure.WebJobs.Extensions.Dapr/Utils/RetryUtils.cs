@@ -0,0 +1,64 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace Microsoft.Azure.WebJobs.Extensions.Dapr.Utils
+{
+    using System;
+    using System.Net;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Exceptions;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Services;
+
+    internal static class RetryUtils
+    {
+        static readonly TimeSpan MaxBackoff = TimeSpan.FromSeconds(30);
+        static readonly Random Jitter = new Random();
+
+        /// <summary>
+        /// Gets a value indicating whether a failed Dapr request may succeed when retried: a timeout,
+        /// throttling or a server error. A missing sidecar is not considered transient.
+        /// </summary>
+        public static bool IsTransient(Exception ex)
+        {
+            if (ex is DaprSidecarNotPresentException || !(ex is DaprException daprException))
+            {
+                return false;
+            }
+
+            int statusCode = (int)daprException.StatusCode;
+            return statusCode == (int)HttpStatusCode.RequestTimeout
+                || statusCode == 429 // Too Many Requests
+                || statusCode >= 500;
+        }
+
+        /// <summary>
+        /// Same as <see cref="IsTransient"/>, but also retries when the sidecar is not reachable, which
+        /// happens while it restarts. Only used for requests sent in the background, where waiting for
+        /// the sidecar does not hold up a function invocation.
+        /// </summary>
+        public static bool IsTransientInBackground(Exception ex)
+        {
+            return IsTransient(ex) || ex is DaprSidecarNotPresentException;
+        }
+
+        /// <summary>
+        /// Gets the delay before the next attempt using exponential backoff with full jitter:
+        /// a random delay between zero and base * 2^(attempt - 1), capped at 30 seconds.
+        /// </summary>
+        public static TimeSpan GetBackoffDelay(int baseDelayMs, int attempt)
+        {
+            double maxDelayMs = Math.Min(
+                Math.Max(baseDelayMs, 0) * Math.Pow(2, attempt - 1),
+                MaxBackoff.TotalMilliseconds);
+
+            double jitter;
+            lock (Jitter)
+            {
+                jitter = Jitter.NextDouble();
+            }
+
+            return TimeSpan.FromMilliseconds(maxDelayMs * jitter);
+        }
+    }
+}
@@ -56,6 +56,7 @@ namespace DaprExtensionTests
                     // PubSub APIs
                     // https://docs.dapr.io/reference/api/pubsub_api/
                     routes.MapPost("v1.0/publish/{name}/{topic}", this.OnPublish);
+                    routes.MapPost("v1.0-alpha1/publish/bulk/{name}/{topic}", this.OnPublish);
 
                     // Secrets API
                     // https://docs.dapr.io/reference/api/secrets_api/
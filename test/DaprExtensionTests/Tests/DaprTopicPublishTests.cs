@@ -7,6 +7,7 @@ namespace DaprExtensionTests
 {
     using System;
     using System.Collections.Generic;
+    using System.Linq;
     using System.Text.Json;
     using System.Threading.Tasks;
     using Microsoft.Azure.Functions.Extensions.Dapr.Core;
@@ -96,6 +97,46 @@ namespace DaprExtensionTests
             Assert.Empty(this.GetDaprRequests());
         }
 
+        [Fact]
+        public async Task Publish_BinaryContentType_SendsCloudEventWithBase64Data()
+        {
+            byte[] data = Guid.NewGuid().ToByteArray();
+            var input = new DaprPubSubEvent(Convert.ToBase64String(data), pubSubName: "MyPubSub", topic: "TopicB")
+            {
+                ContentType = "application/avro",
+                DataSchema = "file:///schemas/MyRecord.avsc",
+            };
+
+            await this.CallFunctionAsync(nameof(Functions.DaprPubSubEventReturnValueAnyTopic), "input", input);
+            SavedHttpRequest req = Assert.Single(this.GetDaprRequests());
+
+            Assert.Equal("/v1.0/publish/MyPubSub/TopicB", req.Path);
+            Assert.StartsWith("application/cloudevents+json", req.ContentType);
+
+            JsonElement cloudEvent = JsonDocument.Parse(req.ContentAsString).RootElement;
+            Assert.Equal("1.0", cloudEvent.GetProperty("specversion").GetString());
+            Assert.Equal("application/avro", cloudEvent.GetProperty("datacontenttype").GetString());
+            Assert.Equal("file:///schemas/MyRecord.avsc", cloudEvent.GetProperty("dataschema").GetString());
+            Assert.Equal(data, cloudEvent.GetProperty("data_base64").GetBytesFromBase64());
+            Assert.False(cloudEvent.TryGetProperty("data", out _));
+        }
+
+        [Fact]
+        public async Task Publish_BinaryContentTypeWithoutBase64Payload_Throws()
+        {
+            var input = new DaprPubSubEvent(new { arg1 = 2 }, pubSubName: "MyPubSub", topic: "TopicB")
+            {
+                ContentType = "application/x-protobuf",
+            };
+
+            FunctionInvocationException error = await Assert.ThrowsAsync<FunctionInvocationException>(() =>
+                this.CallFunctionAsync(nameof(Functions.DaprPubSubEventReturnValueAnyTopic), "input", input));
+
+            ArgumentException innerError = Assert.IsType<ArgumentException>(error.GetBaseException());
+            Assert.Contains("base64", innerError.Message);
+            Assert.Empty(this.GetDaprRequests());
+        }
+
         [Fact]
         public async Task Publish_MultipleEvents()
         {
@@ -115,6 +156,33 @@ namespace DaprExtensionTests
             Assert.Equal("2", req2.ContentAsString);
         }
 
+        [Fact]
+        public async Task Publish_AsyncBatched_CoalescesEventsAcrossInvocations()
+        {
+            await Task.WhenAll(
+                this.CallFunctionAsync(nameof(Functions.AsyncBatchedPublish), "input", 1),
+                this.CallFunctionAsync(nameof(Functions.AsyncBatchedPublish), "input", 2),
+                this.CallFunctionAsync(nameof(Functions.AsyncBatchedPublish), "input", 3));
+
+            // The batch is published in the background once the linger time has elapsed
+            SavedHttpRequest[] requests = Array.Empty<SavedHttpRequest>();
+            for (int i = 0; i < 50 && requests.Length == 0; i++)
+            {
+                await Task.Delay(100);
+                requests = this.GetDaprRequests();
+            }
+
+            SavedHttpRequest req = Assert.Single(requests);
+            Assert.Equal("POST", req.Method);
+            Assert.Equal("/v1.0-alpha1/publish/bulk/MyPubSub/TopicA", req.Path);
+
+            JsonElement[] entries = JsonDocument.Parse(req.ContentAsString).RootElement.EnumerateArray().ToArray();
+            Assert.Equal(3, entries.Length);
+            Assert.Equal(
+                new[] { 1, 2, 3 },
+                entries.Select(e => e.GetProperty("event").GetInt32()).OrderBy(v => v));
+        }
+
         public static IEnumerable<object[]> GetObjectAsyncCollectorInputs() => new List<object[]>
         {
             new object[] { 42 },
@@ -161,6 +229,14 @@ namespace DaprExtensionTests
             [return: DaprPublish(PubSubName = "%PubSubName%", Topic = "%TopicName%")]
             public static DaprPubSubEvent DaprPubSubEventReturnValueBound(DaprPubSubEvent input) => input;
 
+            [NoAutomaticTrigger]
+            public static Task AsyncBatchedPublish(
+                object input,
+                [DaprPublish(PubSubName = "MyPubSub", Topic = "TopicA", DeliveryMode = DaprPublishDeliveryMode.AsyncBatched, BatchLingerMs = 500)] IAsyncCollector<object> events)
+            {
+                return events.AddAsync(input);
+            }
+
             [NoAutomaticTrigger]
             public static async Task AsyncCollectorMultipleItems(
                 object input,
@@ -130,6 +130,7 @@ namespace DaprExtensionTests
                     Assert.Equal("AnotherTopic", s.topic);
                     Assert.Equal("/MyRoute", s.route);
                 },
+                s => AssertDefaults(s, nameof(Functions.BinaryBytesTopic)),
                 s => AssertDefaults(s, nameof(Functions.BytesTopic)),
                 s => AssertDefaults(s, nameof(Functions.CloudEventTopic)),
                 s => AssertDefaults(s, nameof(Functions.CustomTypeTopic)),
@@ -186,6 +187,40 @@ namespace DaprExtensionTests
             Assert.Contains(expectedOutput, functionLogs);
         }
 
+        [Fact]
+        public async Task BinaryCloudEventIsDecodedForBytesWhenEnabled()
+        {
+            string input = Guid.NewGuid().ToString();
+
+            using HttpResponseMessage response = await this.SendRequestAsync(
+                HttpMethod.Post,
+                $"http://localhost:3001/{nameof(Functions.BinaryBytesTopic)}",
+                jsonContent: CreateBinaryCloudEventMessage(input));
+
+            Assert.Equal(HttpStatusCode.OK, response.StatusCode);
+
+            IEnumerable<string> functionLogs = this.GetFunctionLogs(nameof(Functions.BinaryBytesTopic));
+            Assert.Contains(input, functionLogs);
+        }
+
+        [Fact]
+        public async Task BinaryCloudEventIsNotDecodedForBytesByDefault()
+        {
+            string input = Guid.NewGuid().ToString();
+
+            using HttpResponseMessage response = await this.SendRequestAsync(
+                HttpMethod.Post,
+                $"http://localhost:3001/{nameof(Functions.BytesTopic)}",
+                jsonContent: CreateBinaryCloudEventMessage(input));
+
+            Assert.Equal(HttpStatusCode.OK, response.StatusCode);
+
+            // The function receives the whole Cloud Event envelope
+            IEnumerable<string> functionLogs = this.GetFunctionLogs(nameof(Functions.BytesTopic));
+            Assert.DoesNotContain(input, functionLogs);
+            Assert.Contains(functionLogs, log => log.Contains(Convert.ToBase64String(Encoding.UTF8.GetBytes(input))));
+        }
+
         [Fact]
         public async Task DaprTopicTriggerRetryTest()
         {
@@ -231,6 +266,22 @@ namespace DaprExtensionTests
             return message;
         }
 
+        static object CreateBinaryCloudEventMessage(string payload)
+        {
+            // https://github.com/cloudevents/spec/blob/v1.0/json-format.md#31-handling-of-data
+            var message = new
+            {
+                id = Guid.NewGuid().ToString("N"),
+                specversion = "1.0",
+                type = "io.dapr.functions.testing",
+                source = "urn:uuid:6e8bc430-9c3a-11d9-9669-0800200c9a67",
+                datacontenttype = "application/octet-stream",
+                data_base64 = Convert.ToBase64String(Encoding.UTF8.GetBytes(payload)),
+            };
+
+            return message;
+        }
+
         static class Functions
         {
             public static void IntTopic(
@@ -249,6 +300,10 @@ namespace DaprExtensionTests
                 [DaprTopicTrigger("MyPubSub")] byte[] input,
                 ILogger log) => log.LogInformation(Encoding.UTF8.GetString(input));
 
+            public static void BinaryBytesTopic(
+                [DaprTopicTrigger("MyPubSub", DecodeBinaryData = true)] byte[] input,
+                ILogger log) => log.LogInformation(Encoding.UTF8.GetString(input));
+
             public static void JsonElementTopic(
                 [DaprTopicTrigger("MyPubSub")] JsonElement input,
                 ILogger log) => log.LogInformation(JsonSerializer.Serialize(input));
@@ -0,0 +1,225 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace DaprExtensionTests.UnitTests.Bindings
+{
+    using System;
+    using System.Net;
+    using System.Threading;
+    using System.Threading.Tasks;
+    using Microsoft.Azure.Functions.Extensions.Dapr.Core;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Exceptions;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Services;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
+    using Microsoft.Extensions.Logging;
+    using Moq;
+    using Xunit;
+
+    public class DaprInvokeMethodAsyncCollectorTests
+    {
+        private readonly Mock<IDaprServiceClient> daprServiceClientMock = new Mock<IDaprServiceClient>();
+        private readonly DaprInvokeLatencyTracker latencyTracker = new DaprInvokeLatencyTracker();
+        private readonly ILogger logger = new Mock<ILogger>().Object;
+
+        [Fact]
+        public async Task FlushAsync_TransientFailure_RetriesUntilSuccess()
+        {
+            // Arrange
+            var attr = new DaprInvokeAttribute { AppId = "app", MethodName = "method", MaxAttempts = 3, RetryBackoffMs = 1 };
+            this.daprServiceClientMock
+                .SetupSequence(x => x.InvokeMethodAsync(It.IsAny<string?>(), "app", "method", "POST", It.IsAny<object?>(), It.IsAny<CancellationToken>()))
+                .ThrowsAsync(new DaprException(HttpStatusCode.ServiceUnavailable, ErrorCodes.ErrDaprRequestFailed, "unavailable"))
+                .ThrowsAsync(new DaprException(HttpStatusCode.InternalServerError, ErrorCodes.ErrDaprRequestFailed, "failed"))
+                .Returns(Task.CompletedTask);
+
+            var collector = this.CreateCollector(attr);
+
+            // Act
+            await collector.AddAsync(new InvokeMethodParameters());
+            await collector.FlushAsync();
+
+            // Assert
+            this.daprServiceClientMock.Verify(
+                x => x.InvokeMethodAsync(It.IsAny<string?>(), "app", "method", "POST", It.IsAny<object?>(), It.IsAny<CancellationToken>()),
+                Times.Exactly(3));
+        }
+
+        [Fact]
+        public async Task FlushAsync_NonTransientFailure_DoesNotRetry()
+        {
+            // Arrange
+            var attr = new DaprInvokeAttribute { AppId = "app", MethodName = "method", MaxAttempts = 3, RetryBackoffMs = 1 };
+            this.daprServiceClientMock
+                .Setup(x => x.InvokeMethodAsync(It.IsAny<string?>(), "app", "method", "POST", It.IsAny<object?>(), It.IsAny<CancellationToken>()))
+                .ThrowsAsync(new DaprException(HttpStatusCode.BadRequest, ErrorCodes.ErrDaprBadRequest, "bad request"));
+
+            var collector = this.CreateCollector(attr);
+
+            // Act
+            await collector.AddAsync(new InvokeMethodParameters());
+            var ex = await Assert.ThrowsAsync<DaprException>(() => collector.FlushAsync());
+
+            // Assert
+            Assert.Equal(HttpStatusCode.BadRequest, ex.StatusCode);
+            this.daprServiceClientMock.Verify(
+                x => x.InvokeMethodAsync(It.IsAny<string?>(), "app", "method", "POST", It.IsAny<object?>(), It.IsAny<CancellationToken>()),
+                Times.Once);
+        }
+
+        [Fact]
+        public async Task FlushAsync_AttemptTimesOut_ThrowsRequestTimeout()
+        {
+            // Arrange
+            var attr = new DaprInvokeAttribute { AppId = "app", MethodName = "method", TimeoutMs = 50 };
+            this.daprServiceClientMock
+                .Setup(x => x.InvokeMethodAsync(It.IsAny<string?>(), "app", "method", "POST", It.IsAny<object?>(), It.IsAny<CancellationToken>()))
+                .Returns<string?, string, string, string, object?, CancellationToken>(
+                    (address, appId, methodName, verb, body, cancellationToken) => Task.Delay(Timeout.Infinite, cancellationToken));
+
+            var collector = this.CreateCollector(attr);
+
+            // Act
+            await collector.AddAsync(new InvokeMethodParameters());
+            var ex = await Assert.ThrowsAsync<DaprException>(() => collector.FlushAsync());
+
+            // Assert
+            Assert.Equal(HttpStatusCode.RequestTimeout, ex.StatusCode);
+            Assert.Equal(ErrorCodes.ErrDaprRequestTimeout, ex.ErrorCode);
+        }
+
+        [Fact]
+        public async Task FlushAsync_SlowIdempotentRequest_SendsHedgedRequest()
+        {
+            // Arrange
+            var attr = new DaprInvokeAttribute { AppId = "app", MethodName = "method", HttpVerb = "GET", EnableHedging = true };
+            for (int i = 0; i < DaprInvokeLatencyTracker.MinSampleCount; i++)
+            {
+                this.latencyTracker.Record("app", "method", TimeSpan.FromMilliseconds(10));
+            }
+
+            int calls = 0;
+            this.daprServiceClientMock
+                .Setup(x => x.InvokeMethodAsync(It.IsAny<string?>(), "app", "method", "GET", It.IsAny<object?>(), It.IsAny<CancellationToken>()))
+                .Returns<string?, string, string, string, object?, CancellationToken>(
+                    (address, appId, methodName, verb, body, cancellationToken) =>
+                        Interlocked.Increment(ref calls) == 1
+                            ? Task.Delay(Timeout.Infinite, cancellationToken) // the primary request never answers
+                            : Task.CompletedTask);
+
+            var collector = this.CreateCollector(attr);
+
+            // Act
+            await collector.AddAsync(new InvokeMethodParameters());
+            await collector.FlushAsync();
+
+            // Assert
+            Assert.Equal(2, calls);
+        }
+
+        [Fact]
+        public async Task FlushAsync_NonIdempotentRequest_IsNotHedged()
+        {
+            // Arrange
+            var attr = new DaprInvokeAttribute { AppId = "app", MethodName = "method", HttpVerb = "POST", EnableHedging = true };
+            for (int i = 0; i < DaprInvokeLatencyTracker.MinSampleCount; i++)
+            {
+                this.latencyTracker.Record("app", "method", TimeSpan.FromMilliseconds(1));
+            }
+
+            this.daprServiceClientMock
+                .Setup(x => x.InvokeMethodAsync(It.IsAny<string?>(), "app", "method", "POST", It.IsAny<object?>(), It.IsAny<CancellationToken>()))
+                .Returns(() => Task.Delay(50));
+
+            var collector = this.CreateCollector(attr);
+
+            // Act
+            await collector.AddAsync(new InvokeMethodParameters());
+            await collector.FlushAsync();
+
+            // Assert
+            this.daprServiceClientMock.Verify(
+                x => x.InvokeMethodAsync(It.IsAny<string?>(), "app", "method", "POST", It.IsAny<object?>(), It.IsAny<CancellationToken>()),
+                Times.Once);
+        }
+
+        [Fact]
+        public async Task FlushAsync_HedgeBudgetUsedUp_DoesNotHedge()
+        {
+            // Arrange
+            var attr = new DaprInvokeAttribute { AppId = "app", MethodName = "method", HttpVerb = "GET", EnableHedging = true };
+            for (int i = 0; i < DaprInvokeLatencyTracker.MinSampleCount; i++)
+            {
+                this.latencyTracker.Record("app", "method", TimeSpan.FromMilliseconds(1));
+            }
+
+            while (this.latencyTracker.TryAcquireHedge("app", "method"))
+            {
+                // Use up the budget earned by the recorded requests.
+            }
+
+            this.daprServiceClientMock
+                .Setup(x => x.InvokeMethodAsync(It.IsAny<string?>(), "app", "method", "GET", It.IsAny<object?>(), It.IsAny<CancellationToken>()))
+                .Returns(() => Task.Delay(50));
+
+            var collector = this.CreateCollector(attr);
+
+            // Act
+            await collector.AddAsync(new InvokeMethodParameters());
+            await collector.FlushAsync();
+
+            // Assert
+            this.daprServiceClientMock.Verify(
+                x => x.InvokeMethodAsync(It.IsAny<string?>(), "app", "method", "GET", It.IsAny<object?>(), It.IsAny<CancellationToken>()),
+                Times.Once);
+        }
+
+        [Fact]
+        public void LatencyTracker_HedgeBudget_IsShareOfRecordedRequests()
+        {
+            for (int i = 0; i < 20; i++)
+            {
+                this.latencyTracker.Record("app", "method", TimeSpan.FromMilliseconds(10));
+            }
+
+            // 20 requests earn 2 hedged requests
+            Assert.True(this.latencyTracker.TryAcquireHedge("app", "method"));
+            Assert.True(this.latencyTracker.TryAcquireHedge("app", "method"));
+            Assert.False(this.latencyTracker.TryAcquireHedge("app", "method"));
+
+            for (int i = 0; i < 10; i++)
+            {
+                this.latencyTracker.Record("app", "method", TimeSpan.FromMilliseconds(10));
+            }
+
+            Assert.True(this.latencyTracker.TryAcquireHedge("app", "method"));
+            Assert.False(this.latencyTracker.TryAcquireHedge("app", "method"));
+            Assert.False(this.latencyTracker.TryAcquireHedge("app", "other"));
+        }
+
+        [Fact]
+        public void LatencyTracker_NotEnoughSamples_HasNoPercentile()
+        {
+            this.latencyTracker.Record("app", "method", TimeSpan.FromMilliseconds(10));
+
+            Assert.False(this.latencyTracker.TryGetPercentile("app", "method", 95, out _));
+        }
+
+        [Fact]
+        public void LatencyTracker_ReturnsRequestedPercentile()
+        {
+            for (int i = 1; i <= 100; i++)
+            {
+                this.latencyTracker.Record("app", "method", TimeSpan.FromMilliseconds(i));
+            }
+
+            Assert.True(this.latencyTracker.TryGetPercentile("app", "method", 95, out TimeSpan p95));
+            Assert.Equal(TimeSpan.FromMilliseconds(95), p95);
+        }
+
+        DaprInvokeMethodAsyncCollector CreateCollector(DaprInvokeAttribute attr) =>
+            new DaprInvokeMethodAsyncCollector(attr, this.daprServiceClientMock.Object, this.latencyTracker, this.logger);
+    }
+}
@@ -0,0 +1,163 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace DaprExtensionTests.UnitTests.Bindings
+{
+    using System;
+    using System.Net;
+    using System.Text.Json;
+    using System.Threading;
+    using System.Threading.Tasks;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Exceptions;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Services;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
+    using Microsoft.Azure.WebJobs.Host.Bindings;
+    using Microsoft.Extensions.Logging;
+    using Moq;
+    using Xunit;
+
+    public class DaprLockValueBinderTests
+    {
+        private readonly Mock<IDaprServiceClient> daprServiceClientMock = new Mock<IDaprServiceClient>();
+        private readonly ILogger logger = new Mock<ILogger>().Object;
+
+        [Fact]
+        public async Task AcquireAsync_LockHeldWithFailFast_ThrowsConflict()
+        {
+            // Arrange
+            var attr = new DaprLockAttribute("lockstore") { ResourceId = "job" };
+            this.SetupTryLock(false);
+
+            // Act
+            var ex = await Assert.ThrowsAsync<DaprException>(
+                () => DaprLockValueBinder.AcquireAsync(attr, typeof(DaprLock), this.daprServiceClientMock.Object, this.logger));
+
+            // Assert
+            Assert.Equal(HttpStatusCode.Conflict, ex.StatusCode);
+            Assert.Equal(ErrorCodes.ErrDaprLockNotAcquired, ex.ErrorCode);
+            this.VerifyTryLock(Times.Once());
+        }
+
+        [Fact]
+        public async Task AcquireAsync_LockHeldWithWaitWithBackoff_RetriesUntilAcquired()
+        {
+            // Arrange
+            var attr = new DaprLockAttribute("lockstore")
+            {
+                ResourceId = "job",
+                AcquirePolicy = DaprLockAcquirePolicy.WaitWithBackoff,
+                AcquireTimeoutMs = 30000,
+            };
+            this.SetupTryLock(false, false, true);
+
+            // Act
+            IValueBinder binder = await DaprLockValueBinder.AcquireAsync(attr, typeof(DaprLock), this.daprServiceClientMock.Object, this.logger);
+
+            // Assert
+            var daprLock = Assert.IsType<DaprLock>(await binder.GetValueAsync());
+            Assert.Equal("lockstore", daprLock.LockStore);
+            Assert.Equal("job", daprLock.ResourceId);
+            this.VerifyTryLock(Times.Exactly(3));
+        }
+
+        [Fact]
+        public async Task AcquireAsync_LockHeldPastAcquireTimeout_ThrowsConflict()
+        {
+            // Arrange
+            var attr = new DaprLockAttribute("lockstore")
+            {
+                ResourceId = "job",
+                AcquirePolicy = DaprLockAcquirePolicy.WaitWithBackoff,
+                AcquireTimeoutMs = 300,
+            };
+            this.SetupTryLock(false);
+
+            // Act
+            var ex = await Assert.ThrowsAsync<DaprException>(
+                () => DaprLockValueBinder.AcquireAsync(attr, typeof(DaprLock), this.daprServiceClientMock.Object, this.logger));
+
+            // Assert
+            Assert.Equal(ErrorCodes.ErrDaprLockNotAcquired, ex.ErrorCode);
+        }
+
+        [Fact]
+        public async Task ReleasedOnCompletion_UnlocksOnce()
+        {
+            // Arrange
+            var attr = new DaprLockAttribute("lockstore") { ResourceId = "job" };
+            this.SetupTryLock(true);
+            this.daprServiceClientMock
+                .Setup(x => x.UnlockAsync(It.IsAny<string?>(), "lockstore", "job", It.IsAny<string>(), It.IsAny<CancellationToken>()))
+                .ReturnsAsync(true);
+
+            IValueBinder binder = await DaprLockValueBinder.AcquireAsync(attr, typeof(string), this.daprServiceClientMock.Object, this.logger);
+            var value = JsonDocument.Parse(Assert.IsType<string>(await binder.GetValueAsync())).RootElement;
+            string lockOwner = value.GetProperty("lockOwner").GetString()!;
+
+            // Act
+            await binder.SetValueAsync(value, CancellationToken.None);
+            ((IDisposable)binder).Dispose();
+
+            // Assert
+            this.daprServiceClientMock.Verify(
+                x => x.UnlockAsync(It.IsAny<string?>(), "lockstore", "job", lockOwner, It.IsAny<CancellationToken>()),
+                Times.Once);
+        }
+
+        [Fact]
+        public async Task AcquireAsync_MissingResourceId_ThrowsArgumentException()
+        {
+            var attr = new DaprLockAttribute("lockstore");
+
+            await Assert.ThrowsAsync<ArgumentException>(
+                () => DaprLockValueBinder.AcquireAsync(attr, typeof(DaprLock), this.daprServiceClientMock.Object, this.logger));
+        }
+
+        [Fact]
+        public async Task AcquireAsync_EmptyLockStore_ThrowsArgumentException()
+        {
+            var attr = new DaprLockAttribute(string.Empty) { ResourceId = "job" };
+
+            await Assert.ThrowsAsync<ArgumentException>(
+                () => DaprLockValueBinder.AcquireAsync(attr, typeof(DaprLock), this.daprServiceClientMock.Object, this.logger));
+        }
+
+        [Fact]
+        public async Task AcquireAsync_HostStoppingWhileWaiting_IsCanceled()
+        {
+            // Arrange
+            var attr = new DaprLockAttribute("lockstore")
+            {
+                ResourceId = "job",
+                AcquirePolicy = DaprLockAcquirePolicy.WaitWithBackoff,
+                AcquireTimeoutMs = 60000,
+            };
+            this.SetupTryLock(false);
+            using var hostStopping = new CancellationTokenSource(TimeSpan.FromMilliseconds(200));
+
+            // Act
+            Task<IValueBinder> acquire = DaprLockValueBinder.AcquireAsync(
+                attr, typeof(DaprLock), this.daprServiceClientMock.Object, this.logger, hostStopping.Token);
+
+            // Assert
+            Assert.Same(acquire, await Task.WhenAny(acquire, Task.Delay(10000)));
+            await Assert.ThrowsAnyAsync<OperationCanceledException>(() => acquire);
+        }
+
+        void SetupTryLock(params bool[] results)
+        {
+            int calls = 0;
+            this.daprServiceClientMock
+                .Setup(x => x.TryLockAsync(It.IsAny<string?>(), "lockstore", "job", It.IsAny<string>(), 60, It.IsAny<CancellationToken>()))
+                .Returns(() => Task.FromResult(results[Math.Min(calls++, results.Length - 1)]));
+        }
+
+        void VerifyTryLock(Times times) =>
+            this.daprServiceClientMock.Verify(
+                x => x.TryLockAsync(It.IsAny<string?>(), "lockstore", "job", It.IsAny<string>(), 60, It.IsAny<CancellationToken>()),
+                times);
+    }
+}
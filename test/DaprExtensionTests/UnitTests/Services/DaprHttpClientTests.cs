@@ -4,6 +4,7 @@
     using System.Net.Http;
     using System.Threading;
     using System.Threading.Tasks;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Exceptions;
     using Microsoft.Azure.WebJobs.Extensions.Dapr.Services;
     using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
     using Microsoft.Extensions.Logging;
@@ -66,6 +67,25 @@
             // Assert
             Assert.Equal(HttpStatusCode.OK, response.StatusCode);
         }
+
+        [Fact]
+        public async Task PostAsync_BulkPublishPartialFailure_ThrowsWithFailedEntries()
+        {
+            // Arrange
+            var clientFactory = new TestHttpClientFactory(new HttpResponseMessage(HttpStatusCode.InternalServerError)
+            {
+                Content = new StringContent(@"{""failedEntries"":[{""entryId"":""1"",""error"":""failed""}],""errorCode"":""ERR_PUBSUB_PUBLISH_MESSAGE""}"),
+            });
+            var httpClient = new DaprHttpClient(clientFactory);
+
+            // Act
+            var ex = await Assert.ThrowsAsync<DaprBulkPublishException>(
+                () => httpClient.PostAsync(this.logger, "http://localhost/api", new StringContent("[]"), CancellationToken.None));
+
+            // Assert
+            Assert.Equal(HttpStatusCode.InternalServerError, ex.StatusCode);
+            Assert.Equal(new[] { "1" }, ex.FailedEntryIds);
+        }
     }
 
     public class TestHttpClientFactory : IHttpClientFactory
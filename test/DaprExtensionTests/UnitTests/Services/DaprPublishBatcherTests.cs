@@ -0,0 +1,222 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace DaprExtensionTests.UnitTests.Services
+{
+    using System;
+    using System.Collections.Concurrent;
+    using System.Collections.Generic;
+    using System.Linq;
+    using System.Net;
+    using System.Text.Json;
+    using System.Threading;
+    using System.Threading.Tasks;
+    using Microsoft.Azure.Functions.Extensions.Dapr.Core;
+    using Microsoft.Azure.WebJobs;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Exceptions;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Services;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
+    using Microsoft.Extensions.Logging.Abstractions;
+    using Moq;
+    using Xunit;
+
+    public class DaprPublishBatcherTests
+    {
+        private readonly Mock<INameResolver> nameResolverMock = new Mock<INameResolver>();
+        private readonly Mock<IDaprServiceClient> daprServiceClientMock = new Mock<IDaprServiceClient>();
+        private readonly ConcurrentQueue<IReadOnlyList<JsonElement>> publishedBatches = new ConcurrentQueue<IReadOnlyList<JsonElement>>();
+
+        public DaprPublishBatcherTests()
+        {
+            this.SetupBulkPublish();
+        }
+
+        [Fact]
+        public async Task EnqueueAsync_BatchIsFull_PublishesImmediately()
+        {
+            // Arrange
+            var attr = CreateAttribute(maxBatchSize: 3, lingerMs: 60000);
+            using var batcher = this.CreateBatcher();
+
+            // Act
+            for (int i = 0; i < 3; i++)
+            {
+                await batcher.EnqueueAsync(attr, CreateEvent(i), CancellationToken.None);
+            }
+
+            // Assert
+            IReadOnlyList<JsonElement> batch = await this.publishedBatches.DequeueWithinTimeoutAsync();
+            Assert.Equal(new[] { 0, 1, 2 }, batch.Select(e => e.GetInt32()));
+        }
+
+        [Fact]
+        public async Task EnqueueAsync_LingerElapsed_PublishesPartialBatch()
+        {
+            // Arrange
+            var attr = CreateAttribute(maxBatchSize: 100, lingerMs: 20);
+            using var batcher = this.CreateBatcher();
+
+            // Act
+            await batcher.EnqueueAsync(attr, CreateEvent(1), CancellationToken.None);
+            await batcher.EnqueueAsync(attr, CreateEvent(2), CancellationToken.None);
+
+            // Assert
+            IReadOnlyList<JsonElement> batch = await this.publishedBatches.DequeueWithinTimeoutAsync();
+            Assert.Equal(new[] { 1, 2 }, batch.Select(e => e.GetInt32()));
+        }
+
+        [Fact]
+        public async Task EnqueueAsync_TopicIdleForLingerPeriod_RemovesBuffer()
+        {
+            // Arrange
+            var attr = CreateAttribute(maxBatchSize: 100, lingerMs: 20);
+            using var batcher = this.CreateBatcher();
+            await batcher.EnqueueAsync(attr, CreateEvent(1), CancellationToken.None);
+            await this.publishedBatches.DequeueWithinTimeoutAsync();
+
+            // Act
+            for (int i = 0; i < 100 && batcher.BufferCount > 0; i++)
+            {
+                await Task.Delay(50);
+            }
+
+            // Assert
+            Assert.Equal(0, batcher.BufferCount);
+
+            // The topic gets a new buffer for the next event
+            await batcher.EnqueueAsync(attr, CreateEvent(2), CancellationToken.None);
+            IReadOnlyList<JsonElement> batch = await this.publishedBatches.DequeueWithinTimeoutAsync();
+            Assert.Equal(2, Assert.Single(batch).GetInt32());
+        }
+
+        [Fact]
+        public async Task EnqueueAsync_BufferFullWithFailPolicy_ThrowsDaprException()
+        {
+            // Arrange
+            this.nameResolverMock.Setup(x => x.Resolve(Constants.EnvironmentKeys.PublishBufferCapacity)).Returns("2");
+            var attr = CreateAttribute(maxBatchSize: 100, lingerMs: 60000);
+            attr.OverflowPolicy = DaprPublishOverflowPolicy.Fail;
+            using var batcher = this.CreateBatcher();
+
+            // Act
+            await batcher.EnqueueAsync(attr, CreateEvent(1), CancellationToken.None);
+            await batcher.EnqueueAsync(attr, CreateEvent(2), CancellationToken.None);
+            var ex = await Assert.ThrowsAsync<DaprException>(() => batcher.EnqueueAsync(attr, CreateEvent(3), CancellationToken.None));
+
+            // Assert
+            Assert.Equal((HttpStatusCode)429, ex.StatusCode);
+            Assert.Equal(ErrorCodes.ErrDaprPublishBufferFull, ex.ErrorCode);
+        }
+
+        [Fact]
+        public async Task Dispose_FlushesBufferedEvents()
+        {
+            // Arrange
+            var attr = CreateAttribute(maxBatchSize: 100, lingerMs: 60000);
+            var batcher = this.CreateBatcher();
+            await batcher.EnqueueAsync(attr, CreateEvent(1), CancellationToken.None);
+
+            // Act
+            batcher.Dispose();
+
+            // Assert
+            IReadOnlyList<JsonElement> batch = Assert.Single(this.publishedBatches);
+            Assert.Equal(1, Assert.Single(batch).GetInt32());
+        }
+
+        [Fact]
+        public async Task PublishAsync_TransientFailure_RetriesBatch()
+        {
+            // Arrange
+            this.SetupBulkPublish(new DaprException(HttpStatusCode.ServiceUnavailable, ErrorCodes.ErrUnknown, "unavailable"));
+            var attr = CreateAttribute(maxBatchSize: 2, lingerMs: 60000);
+            using var batcher = this.CreateBatcher();
+
+            // Act
+            await batcher.EnqueueAsync(attr, CreateEvent(1), CancellationToken.None);
+            await batcher.EnqueueAsync(attr, CreateEvent(2), CancellationToken.None);
+
+            // Assert
+            Assert.Equal(new[] { 1, 2 }, (await this.publishedBatches.DequeueWithinTimeoutAsync()).Select(e => e.GetInt32()));
+            Assert.Equal(new[] { 1, 2 }, (await this.publishedBatches.DequeueWithinTimeoutAsync()).Select(e => e.GetInt32()));
+        }
+
+        [Fact]
+        public async Task PublishAsync_PartialFailure_ResendsFailedEntriesOnly()
+        {
+            // Arrange
+            this.SetupBulkPublish(new DaprBulkPublishException(HttpStatusCode.InternalServerError, ErrorCodes.ErrUnknown, "partial", new[] { "1" }));
+            var attr = CreateAttribute(maxBatchSize: 3, lingerMs: 60000);
+            using var batcher = this.CreateBatcher();
+
+            // Act
+            for (int i = 0; i < 3; i++)
+            {
+                await batcher.EnqueueAsync(attr, CreateEvent(i), CancellationToken.None);
+            }
+
+            // Assert
+            Assert.Equal(new[] { 0, 1, 2 }, (await this.publishedBatches.DequeueWithinTimeoutAsync()).Select(e => e.GetInt32()));
+            Assert.Equal(1, Assert.Single(await this.publishedBatches.DequeueWithinTimeoutAsync()).GetInt32());
+        }
+
+        [Fact]
+        public async Task PublishAsync_PermanentFailure_DoesNotRetry()
+        {
+            // Arrange
+            this.SetupBulkPublish(new DaprException(HttpStatusCode.BadRequest, ErrorCodes.ErrDaprBadRequest, "bad request"));
+            var attr = CreateAttribute(maxBatchSize: 100, lingerMs: 60000);
+            var batcher = this.CreateBatcher();
+            await batcher.EnqueueAsync(attr, CreateEvent(1), CancellationToken.None);
+
+            // Act
+            batcher.Dispose();
+
+            // Assert
+            Assert.Single(this.publishedBatches);
+        }
+
+        [Fact]
+        public void GetCapacity_InvalidSetting_UsesDefault()
+        {
+            this.nameResolverMock.Setup(x => x.Resolve(Constants.EnvironmentKeys.PublishBufferCapacity)).Returns("not-a-number");
+
+            Assert.Equal(DaprPublishBatcher.DefaultCapacity, DaprPublishBatcher.GetCapacity(this.nameResolverMock.Object));
+        }
+
+        static DaprPublishAttribute CreateAttribute(int maxBatchSize, int lingerMs) => new DaprPublishAttribute
+        {
+            PubSubName = "MyPubSub",
+            Topic = "MyTopic",
+            DeliveryMode = DaprPublishDeliveryMode.AsyncBatched,
+            MaxBatchSize = maxBatchSize,
+            BatchLingerMs = lingerMs,
+        };
+
+        static DaprPubSubEvent CreateEvent(int value) =>
+            new DaprPubSubEvent(JsonDocument.Parse(value.ToString()).RootElement, "MyPubSub", "MyTopic");
+
+        /// <summary>
+        /// Records every bulk publish request. The first requests fail with the given exceptions, the others succeed.
+        /// </summary>
+        void SetupBulkPublish(params Exception[] failures)
+        {
+            int calls = 0;
+            this.daprServiceClientMock
+                .Setup(x => x.BulkPublishEventAsync(It.IsAny<string?>(), "MyPubSub", "MyTopic", It.IsAny<IReadOnlyList<JsonElement>>(), It.IsAny<string>(), It.IsAny<CancellationToken>()))
+                .Returns<string?, string, string, IReadOnlyList<JsonElement>, string, CancellationToken>(
+                    (address, name, topic, payloads, contentType, cancellationToken) =>
+                    {
+                        this.publishedBatches.Enqueue(payloads.ToList());
+                        int call = Interlocked.Increment(ref calls);
+                        return call <= failures.Length ? Task.FromException(failures[call - 1]) : Task.CompletedTask;
+                    });
+        }
+
+        DaprPublishBatcher CreateBatcher() =>
+            new DaprPublishBatcher(NullLoggerFactory.Instance, this.daprServiceClientMock.Object, this.nameResolverMock.Object);
+    }
+}
@@ -7,10 +7,14 @@ namespace DaprExtensionTests.UnitTests.Services
 {
     using System;
     using System.Collections.Generic;
+    using System.Linq;
     using System.Net;
     using System.Net.Http;
+    using System.Text.Json;
     using System.Threading;
     using System.Threading.Tasks;
+    using Microsoft.Azure.Functions.Extensions.Dapr.Core;
+    using Microsoft.Azure.Functions.Extensions.Dapr.Core.Utils;
     using Microsoft.Azure.WebJobs;
     using Microsoft.Azure.WebJobs.Extensions.Dapr;
     using Microsoft.Azure.WebJobs.Extensions.Dapr.Services;
@@ -111,6 +115,120 @@ namespace DaprExtensionTests.UnitTests.Services
             Assert.Equal(expectedReturn, result);
         }
 
+        [Fact]
+        public void GetTopicSubscriptions_WithoutRoutingRules_ReturnsRegisteredTopics()
+        {
+            // Arrange
+            this.daprServiceListener.RegisterTopic(new DaprTopicSubscription("pubsub", "orders", "/orders"));
+
+            // Act
+            var subscriptions = this.daprServiceListener.GetTopicSubscriptions();
+
+            // Assert
+            var subscription = Assert.Single(subscriptions);
+            Assert.Equal("/orders", subscription.Route);
+            Assert.Null(subscription.Routes);
+            Assert.Equal(
+                "[{\"pubsubname\":\"pubsub\",\"topic\":\"orders\",\"route\":\"/orders\"}]",
+                JsonSerializer.Serialize(subscriptions, JsonUtils.DefaultSerializerOptions));
+        }
+
+        [Fact]
+        public void GetTopicSubscriptions_WithRoutingRules_MergesFunctionsOfTopic()
+        {
+            // Arrange
+            this.daprServiceListener.RegisterTopic(new DaprTopicSubscription("pubsub", "orders", "/orders"));
+            this.daprServiceListener.RegisterTopic(new DaprTopicSubscription("pubsub", "orders", "/cancelled")
+            {
+                Match = "event.type == \"order.cancelled\"",
+                Priority = 2,
+            });
+            this.daprServiceListener.RegisterTopic(new DaprTopicSubscription("pubsub", "orders", "/created")
+            {
+                Match = "event.type == \"order.created\"",
+                Priority = 1,
+            });
+            this.daprServiceListener.RegisterTopic(new DaprTopicSubscription("pubsub", "payments", "/payments"));
+
+            // Act
+            var subscriptions = this.daprServiceListener.GetTopicSubscriptions();
+
+            // Assert
+            Assert.Equal(2, subscriptions.Count);
+
+            var orders = subscriptions.Single(s => s.Topic == "orders");
+            Assert.NotNull(orders.Routes);
+            Assert.Equal("/orders", orders.Routes!.Default);
+            Assert.Collection(
+                orders.Routes.Rules,
+                r =>
+                {
+                    Assert.Equal("event.type == \"order.created\"", r.Match);
+                    Assert.Equal("/created", r.Path);
+                },
+                r =>
+                {
+                    Assert.Equal("event.type == \"order.cancelled\"", r.Match);
+                    Assert.Equal("/cancelled", r.Path);
+                });
+
+            var payments = subscriptions.Single(s => s.Topic == "payments");
+            Assert.Equal("/payments", payments.Route);
+            Assert.Null(payments.Routes);
+        }
+
+        [Fact]
+        public void GetTopicSubscriptions_OnlyRoutingRules_HasNoDefaultRoute()
+        {
+            // Arrange
+            this.daprServiceListener.RegisterTopic(new DaprTopicSubscription("pubsub", "orders", "/created")
+            {
+                Match = "event.type == \"order.created\"",
+            });
+
+            // Act
+            var subscription = Assert.Single(this.daprServiceListener.GetTopicSubscriptions());
+
+            // Assert
+            JsonElement json = JsonDocument.Parse(JsonSerializer.Serialize(subscription, JsonUtils.DefaultSerializerOptions)).RootElement;
+            JsonElement routes = json.GetProperty("routes");
+            Assert.False(routes.TryGetProperty("default", out _));
+            Assert.Equal("/created", routes.GetProperty("rules")[0].GetProperty("path").GetString());
+        }
+
+        [Fact]
+        public void RegisterTopic_RoutingRuleOnSharedRoute_Throws()
+        {
+            // Arrange
+            this.daprServiceListener.RegisterTopic(new DaprTopicSubscription("pubsub", "orders", "/orders")
+            {
+                Match = "event.type == \"order.created\"",
+            });
+
+            // Act
+            var ex = Assert.Throws<InvalidOperationException>(() =>
+                this.daprServiceListener.RegisterTopic(new DaprTopicSubscription("pubsub", "orders", "/Orders")
+                {
+                    Match = "event.type == \"order.cancelled\"",
+                }));
+
+            // Assert
+            Assert.Contains("pubsub/orders", ex.Message);
+            var subscription = Assert.Single(this.daprServiceListener.GetTopicSubscriptions());
+            Assert.Single(subscription.Routes!.Rules);
+        }
+
+        [Fact]
+        public void RegisterTopic_SharedRouteWithoutRoutingRules_IsRegisteredOnce()
+        {
+            // Act
+            this.daprServiceListener.RegisterTopic(new DaprTopicSubscription("pubsub", "orders", "/orders"));
+            this.daprServiceListener.RegisterTopic(new DaprTopicSubscription("pubsub", "orders", "/orders"));
+
+            // Assert
+            Assert.Equal("/orders", Assert.Single(this.daprServiceListener.GetTopicSubscriptions()).Route);
+        }
+
         public static IEnumerable<object[]> GetWarnIfSidecarMisconfiguredTestData()
         {
             // When Metadata API does not return a valid JSON
@@ -0,0 +1,245 @@
+// ------------------------------------------------------------
+// Copyright (c) Microsoft Corporation.
+// Licensed under the MIT License.
+// ------------------------------------------------------------
+
+namespace DaprExtensionTests.UnitTests.Services
+{
+    using System;
+    using System.Collections.Concurrent;
+    using System.Collections.Generic;
+    using System.Linq;
+    using System.Net;
+    using System.Threading;
+    using System.Threading.Tasks;
+    using Microsoft.Azure.WebJobs;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Exceptions;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Services;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
+    using Microsoft.Extensions.Logging.Abstractions;
+    using Moq;
+    using Xunit;
+
+    public class DaprStateWriteBehindBufferTests
+    {
+        private readonly Mock<INameResolver> nameResolverMock = new Mock<INameResolver>();
+        private readonly Mock<IDaprServiceClient> daprServiceClientMock = new Mock<IDaprServiceClient>();
+        private readonly ConcurrentQueue<List<DaprStateRecord>> savedBatches = new ConcurrentQueue<List<DaprStateRecord>>();
+
+        public DaprStateWriteBehindBufferTests()
+        {
+            this.SetupSaveState(_ => null);
+        }
+
+        [Fact]
+        public async Task AddAsync_SameKeyWrittenRepeatedly_SavesLatestValueOnly()
+        {
+            // Arrange
+            var attr = CreateAttribute(maxBatchSize: 100, flushIntervalMs: 60000);
+            var buffer = this.CreateBuffer();
+
+            // Act
+            await buffer.AddAsync(attr, new DaprStateRecord("counter", 1), CancellationToken.None);
+            await buffer.AddAsync(attr, new DaprStateRecord("counter", 2), CancellationToken.None);
+            await buffer.AddAsync(attr, new DaprStateRecord("other", "value"), CancellationToken.None);
+            await buffer.AddAsync(attr, new DaprStateRecord("counter", 3), CancellationToken.None);
+            buffer.Dispose();
+
+            // Assert
+            List<DaprStateRecord> batch = Assert.Single(this.savedBatches);
+            Assert.Equal(2, batch.Count);
+            Assert.Equal(3, batch.Single(r => r.Key == "counter").Value!.Value.GetInt32());
+            Assert.Equal("value", batch.Single(r => r.Key == "other").Value!.Value.GetString());
+        }
+
+        [Fact]
+        public async Task AddAsync_FlushIntervalElapsed_SavesBufferedValues()
+        {
+            // Arrange
+            var attr = CreateAttribute(maxBatchSize: 100, flushIntervalMs: 20);
+            using var buffer = this.CreateBuffer();
+
+            // Act
+            await buffer.AddAsync(attr, new DaprStateRecord("key1", "value1"), CancellationToken.None);
+
+            // Assert
+            List<DaprStateRecord> batch = await this.savedBatches.DequeueWithinTimeoutAsync();
+            Assert.Equal("key1", Assert.Single(batch).Key);
+        }
+
+        [Fact]
+        public async Task AddAsync_MaxBatchSizeReached_SavesImmediately()
+        {
+            // Arrange
+            var attr = CreateAttribute(maxBatchSize: 2, flushIntervalMs: 60000);
+            using var buffer = this.CreateBuffer();
+
+            // Act
+            await buffer.AddAsync(attr, new DaprStateRecord("key1", "value1"), CancellationToken.None);
+            await buffer.AddAsync(attr, new DaprStateRecord("key1", "value2"), CancellationToken.None);
+            await buffer.AddAsync(attr, new DaprStateRecord("key2", "value3"), CancellationToken.None);
+
+            // Assert
+            List<DaprStateRecord> batch = await this.savedBatches.DequeueWithinTimeoutAsync();
+            Assert.Equal(new[] { "key1", "key2" }, batch.Select(r => r.Key).OrderBy(k => k));
+        }
+
+        [Fact]
+        public async Task AddAsync_BufferFullWithFailPolicy_ThrowsDaprException()
+        {
+            // Arrange
+            this.nameResolverMock.Setup(x => x.Resolve(Constants.EnvironmentKeys.StateBufferCapacity)).Returns("2");
+            var attr = CreateAttribute(maxBatchSize: 100, flushIntervalMs: 60000);
+            attr.OverflowPolicy = DaprStateOverflowPolicy.Fail;
+            using var buffer = this.CreateBuffer();
+
+            // Act
+            await buffer.AddAsync(attr, new DaprStateRecord("key1", "value1"), CancellationToken.None);
+            await buffer.AddAsync(attr, new DaprStateRecord("key2", "value2"), CancellationToken.None);
+
+            // Overwriting a buffered key does not need more space
+            await buffer.AddAsync(attr, new DaprStateRecord("key1", "value3"), CancellationToken.None);
+            var ex = await Assert.ThrowsAsync<DaprException>(
+                () => buffer.AddAsync(attr, new DaprStateRecord("key3", "value4"), CancellationToken.None));
+
+            // Assert
+            Assert.Equal((HttpStatusCode)429, ex.StatusCode);
+            Assert.Equal(ErrorCodes.ErrDaprStateBufferFull, ex.ErrorCode);
+        }
+
+        [Fact]
+        public async Task Flush_TransientFailure_RetriesAndReleasesSpace()
+        {
+            // Arrange
+            this.nameResolverMock.Setup(x => x.Resolve(Constants.EnvironmentKeys.StateBufferCapacity)).Returns("1");
+            int calls = 0;
+            this.SetupSaveState(_ => Interlocked.Increment(ref calls) == 1
+                ? new DaprException(HttpStatusCode.ServiceUnavailable, ErrorCodes.ErrUnknown, "unavailable")
+                : null);
+            var attr = CreateAttribute(maxBatchSize: 1, flushIntervalMs: 0);
+            using var buffer = this.CreateBuffer();
+
+            // Act
+            await buffer.AddAsync(attr, new DaprStateRecord("key1", "value1"), CancellationToken.None);
+
+            // Assert
+            Assert.Equal("key1", Assert.Single(await this.savedBatches.DequeueWithinTimeoutAsync()).Key);
+            Assert.Equal("key1", Assert.Single(await this.savedBatches.DequeueWithinTimeoutAsync()).Key);
+
+            // The space of the saved key is available again
+            Task add = buffer.AddAsync(attr, new DaprStateRecord("key2", "value2"), CancellationToken.None);
+            Assert.Same(add, await Task.WhenAny(add, Task.Delay(5000)));
+        }
+
+        [Fact]
+        public async Task Flush_PermanentFailure_SavesValidRecordsIndividually()
+        {
+            // Arrange
+            this.SetupSaveState(records => records.Any(r => r.Key == "bad")
+                ? new DaprException(HttpStatusCode.BadRequest, ErrorCodes.ErrDaprBadRequest, "bad request")
+                : null);
+            var attr = CreateAttribute(maxBatchSize: 100, flushIntervalMs: 60000);
+            var buffer = this.CreateBuffer();
+            await buffer.AddAsync(attr, new DaprStateRecord("good1", "value1"), CancellationToken.None);
+            await buffer.AddAsync(attr, new DaprStateRecord("bad", "value2"), CancellationToken.None);
+            await buffer.AddAsync(attr, new DaprStateRecord("good2", "value3"), CancellationToken.None);
+
+            // Act
+            buffer.Dispose();
+
+            // Assert
+            // The batch, then each record on its own. The bad record is not retried.
+            Assert.Equal(4, this.savedBatches.Count);
+            Assert.Equal(3, this.savedBatches.Skip(1).Count(b => b.Count == 1));
+        }
+
+        [Fact]
+        public async Task Collector_RecordWithETag_IsWrittenThroughAndSupersedesBufferedValue()
+        {
+            // Arrange
+            var attr = CreateAttribute(maxBatchSize: 100, flushIntervalMs: 60000);
+            var buffer = this.CreateBuffer();
+            var collector = new DaprSaveStateAsyncCollector(attr, this.daprServiceClientMock.Object, buffer);
+
+            // Act
+            await collector.AddAsync(new DaprStateRecord("key1", "buffered"));
+            await collector.FlushAsync();
+            await collector.AddAsync(new DaprStateRecord("key1", "written", "etag1"));
+            await collector.FlushAsync();
+
+            // Assert
+            List<DaprStateRecord> batch = Assert.Single(this.savedBatches);
+            Assert.Equal("etag1", Assert.Single(batch).ETag);
+
+            buffer.Dispose();
+            Assert.Single(this.savedBatches);
+        }
+
+        [Fact]
+        public async Task Collector_SameKeyWrittenTwiceInOneInvocation_SavesSecondValue()
+        {
+            // Arrange
+            var attr = CreateAttribute(maxBatchSize: 100, flushIntervalMs: 60000);
+            var buffer = this.CreateBuffer();
+            var collector = new DaprSaveStateAsyncCollector(attr, this.daprServiceClientMock.Object, buffer);
+
+            // Act
+            await collector.AddAsync(new DaprStateRecord("product", "v1"));
+            await collector.AddAsync(new DaprStateRecord("product", "v2"));
+            await collector.FlushAsync();
+            buffer.Dispose();
+
+            // Assert
+            List<DaprStateRecord> batch = Assert.Single(this.savedBatches);
+            Assert.Equal("v2", Assert.Single(batch).Value!.Value.GetString());
+        }
+
+        [Fact]
+        public async Task Collector_ValueAfterRecordWithETag_IsSavedAfterIt()
+        {
+            // Arrange
+            var attr = CreateAttribute(maxBatchSize: 1, flushIntervalMs: 60000);
+            var buffer = this.CreateBuffer();
+            var collector = new DaprSaveStateAsyncCollector(attr, this.daprServiceClientMock.Object, buffer);
+
+            // Act
+            await collector.AddAsync(new DaprStateRecord("product", "v1", "etag1"));
+            await collector.AddAsync(new DaprStateRecord("product", "v2"));
+            await collector.FlushAsync();
+            buffer.Dispose();
+
+            // Assert
+            Assert.Equal(
+                new[] { "v1", "v2" },
+                this.savedBatches.Select(b => Assert.Single(b).Value!.Value.GetString()));
+        }
+
+        static DaprStateAttribute CreateAttribute(int maxBatchSize, int flushIntervalMs) => new DaprStateAttribute("mystore")
+        {
+            WriteMode = DaprStateWriteMode.WriteBehind,
+            MaxBatchSize = maxBatchSize,
+            FlushIntervalMs = flushIntervalMs,
+        };
+
+        /// <summary>
+        /// Records every save request. A request fails with the exception returned for its records, if any.
+        /// </summary>
+        void SetupSaveState(Func<List<DaprStateRecord>, Exception?> getFailure)
+        {
+            this.daprServiceClientMock
+                .Setup(x => x.SaveStateAsync(It.IsAny<string?>(), "mystore", It.IsAny<IEnumerable<DaprStateRecord>>(), It.IsAny<CancellationToken>()))
+                .Returns<string?, string?, IEnumerable<DaprStateRecord>, CancellationToken>(
+                    (address, store, values, cancellationToken) =>
+                    {
+                        List<DaprStateRecord> records = values.ToList();
+                        this.savedBatches.Enqueue(records);
+                        Exception? failure = getFailure(records);
+                        return failure == null ? Task.CompletedTask : Task.FromException(failure);
+                    });
+        }
+
+        DaprStateWriteBehindBuffer CreateBuffer() =>
+            new DaprStateWriteBehindBuffer(NullLoggerFactory.Instance, this.daprServiceClientMock.Object, this.nameResolverMock.Object);
+    }
+}
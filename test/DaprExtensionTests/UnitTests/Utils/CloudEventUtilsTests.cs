@@ -0,0 +1,70 @@
+namespace DaprExtensionTests.UnitTests.Utils
+{
+    using System.Text.Json;
+    using Microsoft.Azure.Functions.Extensions.Dapr.Core;
+    using Microsoft.Azure.WebJobs.Extensions.Dapr.Utils;
+    using Xunit;
+
+    public class CloudEventUtilsTests
+    {
+        [Theory]
+        [InlineData(null, true)]
+        [InlineData("application/json", true)]
+        [InlineData("application/json; charset=utf-8", true)]
+        [InlineData("application/cloudevents+json", true)]
+        [InlineData("application/avro", false)]
+        [InlineData("application/x-protobuf", false)]
+        public void IsJsonContentType(string? contentType, bool expected)
+        {
+            Assert.Equal(expected, CloudEventUtils.IsJsonContentType(contentType));
+        }
+
+        [Fact]
+        public void GetPublishBody_NoContentType_ReturnsPayload()
+        {
+            // Arrange
+            var item = new DaprPubSubEvent(new { arg1 = 2 });
+
+            // Act
+            JsonElement body = CloudEventUtils.GetPublishBody(item, out string contentType);
+
+            // Assert
+            Assert.Equal(CloudEventUtils.JsonContentType, contentType);
+            Assert.Equal(2, body.GetProperty("arg1").GetInt32());
+        }
+
+        [Fact]
+        public void GetPublishBody_JsonPayloadWithDataSchema_ReturnsCloudEventWithData()
+        {
+            // Arrange
+            var item = new DaprPubSubEvent(new { arg1 = 2 }) { DataSchema = "https://example.com/schema.json" };
+
+            // Act
+            JsonElement body = CloudEventUtils.GetPublishBody(item, out string contentType);
+
+            // Assert
+            Assert.Equal(CloudEventUtils.CloudEventsContentType, contentType);
+            Assert.Equal("application/json", body.GetProperty("datacontenttype").GetString());
+            Assert.Equal("https://example.com/schema.json", body.GetProperty("dataschema").GetString());
+            Assert.Equal(2, body.GetProperty("data").GetProperty("arg1").GetInt32());
+            Assert.False(body.TryGetProperty("data_base64", out _));
+        }
+
+        [Fact]
+        public void GetPublishBody_BinaryPayload_ReturnsCloudEventWithBase64Data()
+        {
+            // Arrange
+            var item = new DaprPubSubEvent("AQID") { ContentType = "application/avro" };
+
+            // Act
+            JsonElement body = CloudEventUtils.GetPublishBody(item, out string contentType);
+
+            // Assert
+            Assert.Equal(CloudEventUtils.CloudEventsContentType, contentType);
+            Assert.Equal("application/avro", body.GetProperty("datacontenttype").GetString());
+            Assert.Equal(new byte[] { 1, 2, 3 }, body.GetProperty("data_base64").GetBytesFromBase64());
+            Assert.False(body.TryGetProperty("dataschema", out _));
+            Assert.False(body.TryGetProperty("data", out _));
+        }
+    }
+}
@@ -5,8 +5,11 @@
 
 namespace DaprExtensionTests
 {
+    using System.Collections.Concurrent;
     using System.Text.Encodings.Web;
     using System.Text.Json;
+    using System.Threading.Tasks;
+    using Xunit.Sdk;
 
     internal static class Utils
     {
@@ -14,5 +17,23 @@ namespace DaprExtensionTests
         {
             Encoder = JavaScriptEncoder.UnsafeRelaxedJsonEscaping,
         };
+
+        /// <summary>
+        /// Waits up to 5 seconds for an item to be added to a queue by background work, and dequeues it.
+        /// </summary>
+        public static async Task<T> DequeueWithinTimeoutAsync<T>(this ConcurrentQueue<T> queue)
+        {
+            for (int i = 0; i < 100; i++)
+            {
+                if (queue.TryDequeue(out T item))
+                {
+                    return item;
+                }
+
+                await Task.Delay(50);
+            }
+
+            throw new XunitException($"No {typeof(T).Name} was added to the queue.");
+        }
     }
 }